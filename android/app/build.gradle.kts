@@ -37,10 +37,24 @@ android {
             signingConfig = signingConfigs.getByName("debug")
         }
     }
+
+    testOptions {
+        unitTests {
+            // Robolectric이 매니페스트와 테마 리소스를 읽을 수 있도록 포함
+            isIncludeAndroidResources = true
+            all {
+                it.systemProperty("goalock.soak.cycles", System.getProperty("goalock.soak.cycles") ?: "2000")
+            }
+        }
+    }
 }
 
 dependencies {
     implementation("androidx.appcompat:appcompat:1.6.1")
+
+    testImplementation("junit:junit:4.13.2")
+    testImplementation("org.robolectric:robolectric:4.14.1")
+    testImplementation("androidx.test:core:1.6.1")
 }
 
 flutter {
@@ -0,0 +1,177 @@
+package com.goalock.app;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.text.TextPaint;
+import android.util.TypedValue;
+import android.view.View;
+
+import java.util.TimeZone;
+
+/**
+ * 목표 마감일까지 남은 기간("D-12", "D-DAY 05:24", "D+3")을 그리는 뷰
+ *
+ * 분 단위 갱신(ACTION_TIME_TICK)마다 호출되므로 텍스트는 미리 할당한 char 버퍼에 직접 기록하고,
+ * 내용이 바뀐 경우에만 자기 영역을 다시 그린다.
+ * 마감일이 없을 때도 GONE 대신 INVISIBLE로 높이를 유지하여, 목표를 넘길 때 페이저 높이가 바뀌지 않게 한다.
+ */
+public class DeadlineCountdownView extends View {
+    private static final long MINUTE_MILLIS = 60 * 1000L;
+    private static final long HOUR_MILLIS = 60 * MINUTE_MILLIS;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+    private final TextPaint paint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint.FontMetricsInt fontMetrics = new Paint.FontMetricsInt();
+    // text: 현재 표시 중인 내용, scratch: 새로 계산한 내용 (달라지면 서로 교체)
+    private char[] text = new char[24];
+    private char[] scratch = new char[24];
+    private int textLength = 0;
+
+    private long deadlineMillis = -1L;
+    private TimeZone timeZone = TimeZone.getDefault();
+
+    public DeadlineCountdownView(Context context) {
+        super(context);
+        paint.setTextSize(TypedValue.applyDimension(
+                TypedValue.COMPLEX_UNIT_SP, 18, context.getResources().getDisplayMetrics()));
+        paint.setFakeBoldText(true);
+        setVisibility(INVISIBLE);
+    }
+
+    public void setTextColor(int color) {
+        paint.setColor(color);
+        invalidate();
+    }
+
+    /**
+     * 마감일 설정 (epoch millis, 음수면 마감일 없음)
+     */
+    public void setDeadline(long deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+        setVisibility(deadlineMillis < 0 ? INVISIBLE : VISIBLE);
+    }
+
+    /**
+     * 시간대 변경을 반영 (TimeZone.getDefault()는 매번 복사본을 만들므로 tick마다 호출하지 않음)
+     */
+    public void refreshTimeZone() {
+        timeZone = TimeZone.getDefault();
+    }
+
+    /**
+     * 현재 시각 기준으로 텍스트를 갱신하고, 바뀐 경우에만 다시 그린다
+     */
+    public void update(long nowMillis) {
+        if (deadlineMillis < 0) {
+            return;
+        }
+
+        int previousLength = textLength;
+        boolean changed = format(nowMillis);
+        if (!changed) {
+            return;
+        }
+
+        if (textLength != previousLength) {
+            // 글자 수가 바뀌면 너비도 바뀜
+            requestLayout();
+        }
+        invalidate();
+    }
+
+    // scratch 버퍼에 남은 기간을 기록하고, 이전 내용과 달라졌는지 반환
+    private boolean format(long nowMillis) {
+        long deadlineDay = Math.floorDiv(deadlineMillis + timeZone.getOffset(deadlineMillis), DAY_MILLIS);
+        long today = Math.floorDiv(nowMillis + timeZone.getOffset(nowMillis), DAY_MILLIS);
+        long days = deadlineDay - today;
+
+        int pos = 0;
+        scratch[pos++] = 'D';
+        if (days > 0) {
+            scratch[pos++] = '-';
+            pos = writeNumber(days, pos);
+        } else if (days < 0) {
+            scratch[pos++] = '+';
+            pos = writeNumber(-days, pos);
+        } else {
+            scratch[pos++] = '-';
+            scratch[pos++] = 'D';
+            scratch[pos++] = 'A';
+            scratch[pos++] = 'Y';
+
+            long remaining = deadlineMillis - nowMillis;
+            if (remaining > 0) {
+                long hours = remaining / HOUR_MILLIS;
+                long minutes = (remaining % HOUR_MILLIS) / MINUTE_MILLIS;
+                scratch[pos++] = ' ';
+                pos = writeTwoDigits(hours, pos);
+                scratch[pos++] = ':';
+                pos = writeTwoDigits(minutes, pos);
+            }
+        }
+
+        if (pos == textLength && equalsText(pos)) {
+            return false;
+        }
+        char[] previous = text;
+        text = scratch;
+        scratch = previous;
+        textLength = pos;
+        return true;
+    }
+
+    private boolean equalsText(int length) {
+        for (int i = 0; i < length; i++) {
+            if (text[i] != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int writeNumber(long value, int pos) {
+        int start = pos;
+        do {
+            scratch[pos++] = (char) ('0' + (value % 10));
+            value /= 10;
+        } while (value > 0 && pos < scratch.length);
+
+        // 역순으로 기록했으므로 뒤집기
+        for (int i = start, j = pos - 1; i < j; i++, j--) {
+            char tmp = scratch[i];
+            scratch[i] = scratch[j];
+            scratch[j] = tmp;
+        }
+        return pos;
+    }
+
+    private int writeTwoDigits(long value, int pos) {
+        scratch[pos++] = (char) ('0' + (value / 10) % 10);
+        scratch[pos++] = (char) ('0' + value % 10);
+        return pos;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        paint.getFontMetricsInt(fontMetrics);
+        int width = (int) Math.ceil(paint.measureText(text, 0, textLength))
+                + getPaddingLeft() + getPaddingRight();
+        int height = fontMetrics.descent - fontMetrics.ascent
+                + getPaddingTop() + getPaddingBottom();
+        setMeasuredDimension(
+                resolveSize(width, widthMeasureSpec),
+                resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (textLength == 0) {
+            return;
+        }
+        float textWidth = paint.measureText(text, 0, textLength);
+        float x = (getWidth() - textWidth) / 2f;
+        float y = getPaddingTop() - fontMetrics.ascent;
+        canvas.drawText(text, 0, textLength, x, y, paint);
+    }
+}
@@ -0,0 +1,189 @@
+package com.goalock.app;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.os.SystemClock;
+import android.os.UserManager;
+import android.provider.Settings;
+
+import java.util.Map;
+
+/**
+ * Direct Boot(첫 잠금 해제 전) 상태에서도 잠금화면을 띄울 수 있도록 최소 설정을 기기 보호 저장소에 보관하는 클래스
+ *
+ * 자격 증명 보호 저장소의 GoalockPrefs는 사용자가 한 번 잠금을 해제하기 전까지 읽을 수 없으므로,
+ * 잠금화면 표시에 필요한 값만 기기 보호 저장소에 복사해 두고 잠금 상태에서는 그 값을 사용한다.
+ * 부팅 후 첫 목표 표시 시점도 함께 기록하여 Direct Boot로 앞당겨진 시간을 측정한다.
+ */
+public final class DirectBootStore {
+    private static final String TAG = "DirectBootStore";
+    private static final String PREFS_NAME = "GoalockPrefs";
+    private static final String DIRECT_BOOT_PREFS_NAME = "GoalockDirectBootPrefs";
+
+    // 기기 보호 저장소로 복사하는 키
+    private static final String KEY_GOAL_TEXT = "goalText";
+    private static final String KEY_BG_COLOR = "backgroundColor";
+    private static final String KEY_TEXT_COLOR = "textColor";
+    private static final String KEY_LOCK_SCREEN_GOALS = "lockScreenGoals";
+    private static final String KEY_SERVICE_ENABLED = "lockScreenServiceEnabled";
+
+    // 부팅 시점 측정값 (부팅마다 초기화, 단위: 부팅 후 경과 ms)
+    private static final String KEY_BOOT_COUNT = "bootCount";
+    private static final String KEY_LOCKED_BOOT_AT = "lockedBootCompletedAt";
+    private static final String KEY_BOOT_COMPLETED_AT = "bootCompletedAt";
+    private static final String KEY_FIRST_SHOWN_AT = "firstShownAt";
+    private static final String KEY_FIRST_SHOWN_LOCKED = "firstShownBeforeUnlock";
+
+    // 이번 프로세스에서 첫 표시 기록을 이미 확인했는지 (프로세스는 재부팅을 넘어 유지되지 않음)
+    private static boolean shownRecorded = false;
+
+    private DirectBootStore() {
+    }
+
+    /**
+     * 사용자가 부팅 후 잠금을 해제했는지 (Android 7.0 미만은 항상 true)
+     */
+    public static boolean isUserUnlocked(Context context) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
+            return true;
+        }
+        UserManager userManager = context.getSystemService(UserManager.class);
+        return userManager == null || userManager.isUserUnlocked();
+    }
+
+    /**
+     * 잠금화면 설정을 읽을 저장소 - 잠금 해제 전에는 기기 보호 저장소의 복사본
+     */
+    public static SharedPreferences getPrefs(Context context) {
+        if (isUserUnlocked(context)) {
+            return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        }
+        return getDeviceProtectedPrefs(context);
+    }
+
+    /**
+     * 기기 보호 저장소의 SharedPreferences (Android 7.0 미만은 일반 저장소)
+     */
+    public static SharedPreferences getDeviceProtectedPrefs(Context context) {
+        Context storageContext = context;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            storageContext = context.createDeviceProtectedStorageContext();
+        }
+        return storageContext.getSharedPreferences(DIRECT_BOOT_PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * GoalockPrefs의 잠금화면 설정을 기기 보호 저장소로 복사 (설정이 바뀔 때마다 호출)
+     */
+    public static void sync(Context context) {
+        if (!isUserUnlocked(context)) {
+            return;
+        }
+
+        SharedPreferences source = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        SharedPreferences.Editor editor = getDeviceProtectedPrefs(context).edit();
+        Map<String, ?> values = source.getAll();
+        copy(values, editor, KEY_GOAL_TEXT);
+        copy(values, editor, KEY_BG_COLOR);
+        copy(values, editor, KEY_TEXT_COLOR);
+        copy(values, editor, KEY_LOCK_SCREEN_GOALS);
+        copy(values, editor, KEY_SERVICE_ENABLED);
+        editor.apply();
+    }
+
+    private static void copy(Map<String, ?> values, SharedPreferences.Editor editor, String key) {
+        Object value = values.get(key);
+        if (value instanceof String) {
+            editor.putString(key, (String) value);
+        } else if (value instanceof Long) {
+            editor.putLong(key, (Long) value);
+        } else if (value instanceof Boolean) {
+            editor.putBoolean(key, (Boolean) value);
+        } else if (value == null) {
+            editor.remove(key);
+        }
+    }
+
+    /**
+     * LOCKED_BOOT_COMPLETED 수신 시점 기록
+     */
+    public static void recordLockedBootCompleted(Context context) {
+        SharedPreferences prefs = prefsForCurrentBoot(context);
+        prefs.edit().putLong(KEY_LOCKED_BOOT_AT, SystemClock.elapsedRealtime()).apply();
+    }
+
+    /**
+     * BOOT_COMPLETED 수신 시점 기록 - Direct Boot가 없었다면 이 이후에야 잠금화면이 표시됨
+     */
+    public static void recordBootCompleted(Context context) {
+        SharedPreferences prefs = prefsForCurrentBoot(context);
+        if (!prefs.contains(KEY_BOOT_COMPLETED_AT)) {
+            prefs.edit().putLong(KEY_BOOT_COMPLETED_AT, SystemClock.elapsedRealtime()).apply();
+        }
+    }
+
+    /**
+     * 이번 부팅에서 처음 목표가 표시된 시점 기록 (이미 기록되어 있으면 무시)
+     */
+    public static void recordShown(Context context) {
+        if (shownRecorded) {
+            return;
+        }
+        shownRecorded = true;
+
+        SharedPreferences prefs = prefsForCurrentBoot(context);
+        if (prefs.contains(KEY_FIRST_SHOWN_AT)) {
+            return;
+        }
+        boolean locked = !isUserUnlocked(context);
+        prefs.edit()
+                .putLong(KEY_FIRST_SHOWN_AT, SystemClock.elapsedRealtime())
+                .putBoolean(KEY_FIRST_SHOWN_LOCKED, locked)
+                .apply();
+        if (GoalLog.isLoggable(GoalLog.DEBUG)) {
+            GoalLog.d(TAG, "부팅 후 첫 목표 표시: {}ms, 잠금 해제 전={}", SystemClock.elapsedRealtime(), locked);
+        }
+    }
+
+    /**
+     * 부팅 시점 측정값을 stats에 추가
+     */
+    public static void putStats(Context context, Map<String, Object> stats) {
+        SharedPreferences prefs = prefsForCurrentBoot(context);
+        long lockedBootAt = prefs.getLong(KEY_LOCKED_BOOT_AT, -1L);
+        long bootCompletedAt = prefs.getLong(KEY_BOOT_COMPLETED_AT, -1L);
+        long firstShownAt = prefs.getLong(KEY_FIRST_SHOWN_AT, -1L);
+
+        stats.put("lockedBootCompletedAtMs", lockedBootAt);
+        stats.put("bootCompletedAtMs", bootCompletedAt);
+        stats.put("firstShownAtMs", firstShownAt);
+        stats.put("firstShownBeforeUnlock", prefs.getBoolean(KEY_FIRST_SHOWN_LOCKED, false));
+        // BOOT_COMPLETED보다 먼저 표시된 만큼이 Direct Boot로 절약된 시간
+        stats.put("directBootSavedMs",
+                firstShownAt >= 0 && bootCompletedAt >= 0 ? Math.max(0L, bootCompletedAt - firstShownAt) : 0L);
+    }
+
+    // 부팅 횟수가 바뀌었으면 이전 부팅의 측정값을 지우고 반환
+    private static SharedPreferences prefsForCurrentBoot(Context context) {
+        SharedPreferences prefs = getDeviceProtectedPrefs(context);
+        int bootCount = currentBootCount(context);
+        if (prefs.getInt(KEY_BOOT_COUNT, -1) != bootCount) {
+            prefs.edit()
+                    .putInt(KEY_BOOT_COUNT, bootCount)
+                    .remove(KEY_LOCKED_BOOT_AT)
+                    .remove(KEY_BOOT_COMPLETED_AT)
+                    .remove(KEY_FIRST_SHOWN_AT)
+                    .remove(KEY_FIRST_SHOWN_LOCKED)
+                    .apply();
+        }
+        return prefs;
+    }
+
+    private static int currentBootCount(Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            return Settings.Global.getInt(context.getContentResolver(), Settings.Global.BOOT_COUNT, 0);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,380 @@
+package com.goalock.app;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Base64;
+import android.util.JsonReader;
+import android.util.JsonToken;
+import android.util.JsonWriter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목표와 아카이브를 gzip 압축된 JSON 파일로 내보내고 가져오는 클래스
+ *
+ * Flutter(shared_preferences)가 저장한 목표 목록을 JsonReader/JsonWriter로 한 항목씩 처리하므로
+ * Dart 쪽에서 전체 목록을 디코딩하거나 하나의 큰 JSON 문자열을 만들 필요가 없다.
+ * 호출하는 쪽에서 백그라운드 스레드로 실행해야 한다.
+ *
+ * 파일 쪽은 크기와 상관없이 일정한 메모리만 사용하지만, shared_preferences는 목록 하나를 문자열 값
+ * 하나로 저장하므로 가져오기는 목표/아카이브 목록을 최종 저장 문자열로 한 번씩 메모리에 만든다.
+ * 따라서 가져올 수 있는 크기는 shared_preferences가 메모리에 올려 두는 기존 목록 크기와 같은 수준이다.
+ */
+public class GoalBackupManager {
+    private static final String TAG = "GoalBackupManager";
+
+    // shared_preferences 플러그인이 사용하는 저장소와 키
+    private static final String FLUTTER_PREFS_NAME = "FlutterSharedPreferences";
+    private static final String KEY_GOALS = "flutter.goals";
+    private static final String KEY_ARCHIVED_GOALS = "flutter.archivedGoals";
+    private static final String LIST_PREFIX = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu";
+    private static final String JSON_LIST_PREFIX = LIST_PREFIX + "!";
+
+    private static final String FORMAT = "goalock-backup";
+    private static final int VERSION = 1;
+    private static final int PROGRESS_INTERVAL = 50;
+
+    public static final String OPERATION_EXPORT = "export";
+    public static final String OPERATION_IMPORT = "import";
+
+    /**
+     * 진행 상황 콜백 (백그라운드 스레드에서 호출됨)
+     */
+    public interface ProgressListener {
+        void onProgress(String operation, int processed, double fraction);
+    }
+
+    private final Context context;
+
+    public GoalBackupManager(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    /**
+     * 목표와 아카이브를 file에 내보내고 결과 요약을 반환
+     */
+    public Map<String, Object> exportData(File file, ProgressListener listener) throws IOException {
+        SharedPreferences prefs = context.getSharedPreferences(FLUTTER_PREFS_NAME, Context.MODE_PRIVATE);
+        String goals = prefs.getString(KEY_GOALS, null);
+        String archivedGoals = prefs.getString(KEY_ARCHIVED_GOALS, null);
+
+        long totalChars = length(goals) + length(archivedGoals);
+        ExportProgress progress = new ExportProgress(listener, totalChars);
+        CRC32 crc = new CRC32();
+
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("백업 폴더를 만들 수 없습니다: " + parent);
+        }
+
+        // 임시 파일에 쓴 뒤 교체하여 중간에 실패해도 기존 백업이 깨지지 않도록 함
+        File tempFile = new File(file.getPath() + ".tmp");
+        int goalCount;
+        int archivedCount;
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))),
+                StandardCharsets.UTF_8))) {
+            writer.beginObject();
+            writer.name("format").value(FORMAT);
+            writer.name("version").value(VERSION);
+            writer.name("exportedAt").value(System.currentTimeMillis());
+
+            writer.name("goals");
+            goalCount = copyStoredList(goals, writer, crc, progress);
+            writer.name("archivedGoals");
+            archivedCount = copyStoredList(archivedGoals, writer, crc, progress);
+
+            writer.name("checksum").value(Long.toHexString(crc.getValue()));
+            writer.endObject();
+        } catch (IOException e) {
+            tempFile.delete();
+            throw e;
+        }
+
+        if (!tempFile.renameTo(file)) {
+            tempFile.delete();
+            throw new IOException("백업 파일을 저장할 수 없습니다: " + file);
+        }
+
+        progress.finish();
+        if (GoalLog.isLoggable(GoalLog.DEBUG)) {
+            GoalLog.d(TAG, "내보내기 완료: goals={}, archived={}", goalCount, archivedCount);
+        }
+        return summary(file, goalCount, archivedCount, crc.getValue());
+    }
+
+    /**
+     * file에서 목표와 아카이브를 가져와 기존 데이터를 교체하고 결과 요약을 반환
+     *
+     * 파일을 한 번만 읽으면서 저장 형식의 문자열을 바로 만들고, 체크섬 검증에 성공한 경우에만 저장한다.
+     */
+    public Map<String, Object> importData(File file, ProgressListener listener) throws IOException {
+        // shared_preferences 저장 형식(접두사 + JSON 배열)으로 바로 기록
+        StringWriter goals = new StringWriter();
+        StringWriter archivedGoals = new StringWriter();
+        goals.write(JSON_LIST_PREFIX);
+        archivedGoals.write(JSON_LIST_PREFIX);
+        BackupSummary summary = readBackup(file, goals, archivedGoals, listener);
+
+        SharedPreferences prefs = context.getSharedPreferences(FLUTTER_PREFS_NAME, Context.MODE_PRIVATE);
+        boolean saved = prefs.edit()
+                .putString(KEY_GOALS, goals.toString())
+                .putString(KEY_ARCHIVED_GOALS, archivedGoals.toString())
+                .commit();
+        if (!saved) {
+            throw new IOException("가져온 데이터를 저장하지 못했습니다");
+        }
+
+        if (listener != null) {
+            listener.onProgress(OPERATION_IMPORT, summary.goalCount + summary.archivedCount, 1.0);
+        }
+        if (GoalLog.isLoggable(GoalLog.DEBUG)) {
+            GoalLog.d(TAG, "가져오기 완료: goals={}, archived={}", summary.goalCount, summary.archivedCount);
+        }
+        return summary(file, summary.goalCount, summary.archivedCount, summary.checksum);
+    }
+
+    // 백업 파일을 읽어 체크섬을 검증하면서 목표/아카이브 목록을 JSON 배열로 기록
+    private BackupSummary readBackup(File file, StringWriter goals, StringWriter archivedGoals,
+                                     ProgressListener listener) throws IOException {
+        long fileLength = Math.max(1L, file.length());
+        CountingInputStream counting = new CountingInputStream(
+                new BufferedInputStream(new FileInputStream(file)));
+        CRC32 crc = new CRC32();
+        BackupSummary summary = new BackupSummary();
+        String storedChecksum = null;
+        boolean formatChecked = false;
+        int[] processed = new int[1];
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                new GZIPInputStream(counting), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                switch (name) {
+                    case "format":
+                        if (!FORMAT.equals(reader.nextString())) {
+                            throw new IOException("GoalLock 백업 파일이 아닙니다");
+                        }
+                        formatChecked = true;
+                        break;
+                    case "version":
+                        int version = reader.nextInt();
+                        if (version > VERSION) {
+                            throw new IOException("지원하지 않는 백업 버전입니다: " + version);
+                        }
+                        break;
+                    case "goals":
+                        summary.goalCount = readList(reader, goals,
+                                crc, counting, fileLength, processed, listener);
+                        break;
+                    case "archivedGoals":
+                        summary.archivedCount = readList(reader, archivedGoals,
+                                crc, counting, fileLength, processed, listener);
+                        break;
+                    case "checksum":
+                        storedChecksum = reader.nextString();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+        }
+
+        if (!formatChecked) {
+            throw new IOException("GoalLock 백업 파일이 아닙니다");
+        }
+        summary.checksum = crc.getValue();
+        if (storedChecksum == null || !storedChecksum.equals(Long.toHexString(summary.checksum))) {
+            throw new IOException("백업 파일 체크섬이 일치하지 않습니다");
+        }
+        return summary;
+    }
+
+    private int readList(JsonReader reader, StringWriter target, CRC32 crc,
+                         CountingInputStream counting, long fileLength, int[] processed,
+                         ProgressListener listener) throws IOException {
+        JsonWriter writer = new JsonWriter(target);
+        writer.beginArray();
+
+        int count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String item = reader.nextString();
+            writeItem(writer, crc, item);
+            count++;
+
+            if (++processed[0] % PROGRESS_INTERVAL == 0 && listener != null) {
+                listener.onProgress(OPERATION_IMPORT, processed[0],
+                        (double) counting.getCount() / fileLength);
+            }
+        }
+        reader.endArray();
+
+        writer.endArray();
+        writer.flush();
+        return count;
+    }
+
+    // shared_preferences에 저장된 목록을 한 항목씩 writer로 복사
+    private int copyStoredList(String stored, JsonWriter writer, CRC32 crc, ExportProgress progress)
+            throws IOException {
+        writer.beginArray();
+        int count = 0;
+
+        if (stored != null && stored.startsWith(JSON_LIST_PREFIX)) {
+            Reader source = new StringReader(stored);
+            source.skip(JSON_LIST_PREFIX.length());
+            JsonReader reader = new JsonReader(source);
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                String item = reader.nextString();
+                writeItem(writer, crc, item);
+                progress.advance(item.length());
+                count++;
+            }
+            reader.endArray();
+        } else if (stored != null && stored.startsWith(LIST_PREFIX)) {
+            // 이전 버전 플러그인의 직렬화 형식
+            for (String item : decodeLegacyList(stored.substring(LIST_PREFIX.length()))) {
+                writeItem(writer, crc, item);
+                progress.advance(item.length());
+                count++;
+            }
+        }
+
+        writer.endArray();
+        return count;
+    }
+
+    private void writeItem(JsonWriter writer, CRC32 crc, String item) throws IOException {
+        update(crc, item);
+        writer.value(item);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> decodeLegacyList(String encoded) throws IOException {
+        byte[] bytes = Base64.decode(encoded, Base64.DEFAULT);
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (List<String>) stream.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("저장된 목표 목록을 읽을 수 없습니다", e);
+        }
+    }
+
+    // 항목 내용과 구분자를 체크섬에 반영
+    private static void update(CRC32 crc, String item) {
+        crc.update(item.getBytes(StandardCharsets.UTF_8));
+        crc.update('\n');
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0L;
+    }
+
+    private static Map<String, Object> summary(File file, int goalCount, int archivedCount, long checksum) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("path", file.getAbsolutePath());
+        result.put("goals", goalCount);
+        result.put("archivedGoals", archivedCount);
+        result.put("checksum", Long.toHexString(checksum));
+        return result;
+    }
+
+    private static final class BackupSummary {
+        int goalCount;
+        int archivedCount;
+        long checksum;
+    }
+
+    private static final class ExportProgress {
+        private final ProgressListener listener;
+        private final long totalChars;
+        private long processedChars = 0L;
+        private int processed = 0;
+
+        ExportProgress(ProgressListener listener, long totalChars) {
+            this.listener = listener;
+            this.totalChars = Math.max(1L, totalChars);
+        }
+
+        void advance(int chars) {
+            processedChars += chars;
+            processed++;
+            if (listener != null && processed % PROGRESS_INTERVAL == 0) {
+                listener.onProgress(OPERATION_EXPORT, processed, (double) processedChars / totalChars);
+            }
+        }
+
+        void finish() {
+            if (listener != null) {
+                listener.onProgress(OPERATION_EXPORT, processed, 1.0);
+            }
+        }
+    }
+
+    // 읽은 압축 바이트 수를 세어 진행률 계산에 사용
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count = 0L;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
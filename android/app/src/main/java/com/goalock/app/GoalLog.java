@@ -0,0 +1,282 @@
+package com.goalock.app;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.util.Log;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * 앱 전체에서 사용하는 레벨별 로그 기록기
+ *
+ * 메시지는 "{}" 자리표시자에 인자를 채워 만들며, 레벨이 꺼져 있으면 메시지를 만들지 않고 바로 반환한다.
+ * 기본형 인자가 여러 개라 박싱이 생기는 호출은 isLoggable()로 먼저 확인한다.
+ * 기록된 로그는 미리 할당해 둔 고정 크기 링 버퍼에 보관하고 dump()로 꺼낼 수 있다.
+ * logcat에는 디버그 빌드에서만 전체 로그를, 릴리스 빌드에서는 경고 이상만 출력한다.
+ */
+public final class GoalLog {
+    public static final int VERBOSE = Log.VERBOSE;
+    public static final int DEBUG = Log.DEBUG;
+    public static final int INFO = Log.INFO;
+    public static final int WARN = Log.WARN;
+    public static final int ERROR = Log.ERROR;
+    // 기록하지 않음
+    public static final int OFF = Log.ASSERT + 1;
+
+    private static final int CAPACITY = 256;
+    private static final int MAX_MESSAGE_LENGTH = 160;
+    private static final char[] LEVEL_CHARS = {'?', '?', 'V', 'D', 'I', 'W', 'E'};
+
+    private static final Object lock = new Object();
+
+    // 링 버퍼 (항목별 시각, 레벨, 태그, 메시지 문자)
+    private static final long[] times = new long[CAPACITY];
+    private static final int[] levels = new int[CAPACITY];
+    private static final String[] tags = new String[CAPACITY];
+    private static final char[][] messages = new char[CAPACITY][MAX_MESSAGE_LENGTH];
+    private static final int[] lengths = new int[CAPACITY];
+    private static int next = 0;
+    private static int size = 0;
+
+    // 메시지 조립용 버퍼 (lock 안에서만 사용)
+    private static final StringBuilder builder = new StringBuilder(MAX_MESSAGE_LENGTH);
+
+    private static volatile boolean initialized = false;
+    private static volatile int bufferLevel = DEBUG;
+    private static volatile int logcatLevel = DEBUG;
+    // 둘 중 낮은 레벨 - 이보다 낮은 로그는 아무 작업도 하지 않음
+    private static volatile int minLevel = DEBUG;
+
+    private GoalLog() {
+    }
+
+    /**
+     * 빌드 종류에 맞춰 기본 레벨 설정 (여러 번 호출해도 처음 한 번만 적용)
+     */
+    public static void init(Context context) {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+
+        boolean debuggable = (context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+        setLevels(debuggable ? DEBUG : INFO, debuggable ? DEBUG : WARN);
+    }
+
+    /**
+     * 링 버퍼에 기록할 최소 레벨 변경 (VERBOSE..OFF 범위를 벗어나면 가까운 값으로 맞춤)
+     */
+    public static void setBufferLevel(int level) {
+        setLevels(Math.max(VERBOSE, Math.min(OFF, level)), logcatLevel);
+    }
+
+    private static void setLevels(int buffer, int logcat) {
+        bufferLevel = buffer;
+        logcatLevel = logcat;
+        minLevel = Math.min(buffer, logcat);
+    }
+
+    public static boolean isLoggable(int level) {
+        return level >= minLevel;
+    }
+
+    public static void v(String tag, String message) {
+        if (VERBOSE >= minLevel) {
+            log(VERBOSE, tag, message, null, null, null, 0);
+        }
+    }
+
+    public static void v(String tag, String format, Object arg) {
+        if (VERBOSE >= minLevel) {
+            log(VERBOSE, tag, format, arg, null, null, 1);
+        }
+    }
+
+    public static void v(String tag, String format, long arg) {
+        if (VERBOSE >= minLevel) {
+            log(VERBOSE, tag, format, arg);
+        }
+    }
+
+    public static void v(String tag, String format, Object arg1, Object arg2) {
+        if (VERBOSE >= minLevel) {
+            log(VERBOSE, tag, format, arg1, arg2, null, 2);
+        }
+    }
+
+    public static void d(String tag, String message) {
+        if (DEBUG >= minLevel) {
+            log(DEBUG, tag, message, null, null, null, 0);
+        }
+    }
+
+    public static void d(String tag, String format, Object arg) {
+        if (DEBUG >= minLevel) {
+            log(DEBUG, tag, format, arg, null, null, 1);
+        }
+    }
+
+    public static void d(String tag, String format, long arg) {
+        if (DEBUG >= minLevel) {
+            log(DEBUG, tag, format, arg);
+        }
+    }
+
+    public static void d(String tag, String format, Object arg1, Object arg2) {
+        if (DEBUG >= minLevel) {
+            log(DEBUG, tag, format, arg1, arg2, null, 2);
+        }
+    }
+
+    public static void d(String tag, String format, Object arg1, Object arg2, Object arg3) {
+        if (DEBUG >= minLevel) {
+            log(DEBUG, tag, format, arg1, arg2, arg3, 3);
+        }
+    }
+
+    public static void i(String tag, String message) {
+        if (INFO >= minLevel) {
+            log(INFO, tag, message, null, null, null, 0);
+        }
+    }
+
+    public static void i(String tag, String format, Object arg) {
+        if (INFO >= minLevel) {
+            log(INFO, tag, format, arg, null, null, 1);
+        }
+    }
+
+    public static void i(String tag, String format, long arg) {
+        if (INFO >= minLevel) {
+            log(INFO, tag, format, arg);
+        }
+    }
+
+    public static void i(String tag, String format, Object arg1, Object arg2) {
+        if (INFO >= minLevel) {
+            log(INFO, tag, format, arg1, arg2, null, 2);
+        }
+    }
+
+    public static void w(String tag, String message) {
+        if (WARN >= minLevel) {
+            log(WARN, tag, message, null, null, null, 0);
+        }
+    }
+
+    public static void w(String tag, String format, Object arg) {
+        if (WARN >= minLevel) {
+            log(WARN, tag, format, arg, null, null, 1);
+        }
+    }
+
+    public static void e(String tag, String message) {
+        if (ERROR >= minLevel) {
+            log(ERROR, tag, message, null, null, null, 0);
+        }
+    }
+
+    public static void e(String tag, String format, Object arg) {
+        if (ERROR >= minLevel) {
+            log(ERROR, tag, format, arg, null, null, 1);
+        }
+    }
+
+    public static void e(String tag, String format, Object arg1, Object arg2) {
+        if (ERROR >= minLevel) {
+            log(ERROR, tag, format, arg1, arg2, null, 2);
+        }
+    }
+
+    /**
+     * 예외와 함께 기록 - 메시지 다음 줄부터 스택 트레이스를 붙임
+     * (링 버퍼에는 앞부분만 남고, logcat에는 전체가 출력됨)
+     */
+    public static void e(String tag, String message, Throwable throwable) {
+        if (ERROR >= minLevel) {
+            synchronized (lock) {
+                builder.setLength(0);
+                builder.append(message).append('\n').append(Log.getStackTraceString(throwable));
+                write(ERROR, tag);
+            }
+        }
+    }
+
+    // long 인자 하나 - 박싱 없이 바로 숫자를 붙임
+    private static void log(int level, String tag, String format, long arg) {
+        synchronized (lock) {
+            builder.setLength(0);
+            int index = format.indexOf("{}");
+            if (index < 0) {
+                builder.append(format);
+            } else {
+                builder.append(format, 0, index).append(arg).append(format, index + 2, format.length());
+            }
+            write(level, tag);
+        }
+    }
+
+    private static void log(int level, String tag, String format,
+                            Object arg1, Object arg2, Object arg3, int argCount) {
+        synchronized (lock) {
+            builder.setLength(0);
+            int start = 0;
+            for (int i = 0; i < argCount; i++) {
+                int index = format.indexOf("{}", start);
+                if (index < 0) {
+                    break;
+                }
+                builder.append(format, start, index).append(i == 0 ? arg1 : i == 1 ? arg2 : arg3);
+                start = index + 2;
+            }
+            builder.append(format, start, format.length());
+            write(level, tag);
+        }
+    }
+
+    // builder의 내용을 링 버퍼와 logcat에 기록 (lock 안에서 호출)
+    private static void write(int level, String tag) {
+        if (level >= bufferLevel) {
+            int length = Math.min(builder.length(), MAX_MESSAGE_LENGTH);
+            builder.getChars(0, length, messages[next], 0);
+            lengths[next] = length;
+            times[next] = System.currentTimeMillis();
+            levels[next] = level;
+            tags[next] = tag;
+            next = (next + 1) % CAPACITY;
+            if (size < CAPACITY) {
+                size++;
+            }
+        }
+        if (level >= logcatLevel) {
+            Log.println(level, tag, builder.toString());
+        }
+    }
+
+    /**
+     * 링 버퍼의 로그를 오래된 순서로 한 줄씩 반환
+     */
+    public static String dump() {
+        SimpleDateFormat format = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US);
+        Date date = new Date();
+        synchronized (lock) {
+            StringBuilder out = new StringBuilder(size * (MAX_MESSAGE_LENGTH / 2));
+            int first = (next - size + CAPACITY) % CAPACITY;
+            for (int i = 0; i < size; i++) {
+                int slot = (first + i) % CAPACITY;
+                date.setTime(times[slot]);
+                out.append(format.format(date))
+                        .append(' ')
+                        .append(LEVEL_CHARS[levels[slot]])
+                        .append('/')
+                        .append(tags[slot])
+                        .append(": ")
+                        .append(messages[slot], 0, lengths[slot])
+                        .append('\n');
+            }
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.goalock.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Gravity;
+import android.view.animation.DecelerateInterpolator;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 잠금화면 목표를 좌우로 넘겨 보는 페이저
+ *
+ * 목표 수와 상관없이 이전/현재/다음 3개의 페이지 뷰만 만들어 돌려 쓰고,
+ * 각 목표는 TextFitEngine으로 페이지 크기에 맞는 글자 크기와 텍스트 레이아웃을 구해 표시한다.
+ * 이웃 페이지는 백그라운드에서 미리 측정해 둔다.
+ * 페이지 전환은 translationX 애니메이션(하드웨어 레이어)으로만 처리하므로 전환 중 레이아웃이 일어나지 않는다.
+ */
+public class GoalPagerView extends FrameLayout {
+    private static final String TAG = "GoalPagerView";
+    private static final int PAGE_COUNT = 3;
+    private static final long PAGE_ANIMATION_MS = 250L;
+
+    // 이웃 페이지 측정용 스레드 (모든 페이저가 공유)
+    private static ExecutorService prefetchExecutor;
+
+    /**
+     * 페이지가 바뀌었을 때 호출되는 리스너 (전환 애니메이션이 끝난 뒤)
+     */
+    public interface OnPageChangeListener {
+        void onPageChanged(int index);
+    }
+
+    private final TextView[] pages = new TextView[PAGE_COUNT];
+    // 슬롯별로 표시 중인 목표 인덱스, 미리 측정을 요청한 목표 인덱스
+    private final int[] boundIndex = new int[PAGE_COUNT];
+    private final int[] prefetchedIndex = new int[PAGE_COUNT];
+    // 슬롯별로 측정된 크기가 적용되었는지
+    private final boolean[] fitted = new boolean[PAGE_COUNT];
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final DecelerateInterpolator interpolator = new DecelerateInterpolator();
+
+    private String[] goals = new String[0];
+    private int currentIndex = 0;
+    private int currentSlot = 0;
+    private boolean animating = false;
+    // 목표 목록이나 페이지 크기가 바뀌면 진행 중인 측정 결과를 버리기 위한 번호
+    private int generation = 0;
+
+    // 페이지 크기가 정해지기 전에는 null
+    @Nullable
+    private TextFitEngine.Spec fitSpec;
+
+    @Nullable
+    private OnPageChangeListener onPageChangeListener;
+
+    public GoalPagerView(Context context) {
+        super(context);
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            TextView page = new TextView(context);
+            page.setLayoutParams(new FrameLayout.LayoutParams(
+                    FrameLayout.LayoutParams.MATCH_PARENT,
+                    FrameLayout.LayoutParams.MATCH_PARENT,
+                    Gravity.CENTER));
+            page.setPadding(16, 16, 16, 16);
+            page.setGravity(Gravity.CENTER);
+            pages[i] = page;
+            boundIndex[i] = -1;
+            prefetchedIndex[i] = -1;
+            addView(page);
+        }
+
+        // 이전 잠금화면과 같은 크기라면 레이아웃 전에 캐시된 측정 결과를 바로 적용할 수 있음
+        fitSpec = TextFitEngine.getInstance().getLastSpec();
+    }
+
+    public void setOnPageChangeListener(@Nullable OnPageChangeListener listener) {
+        this.onPageChangeListener = listener;
+    }
+
+    public void setTextColor(int color) {
+        for (TextView page : pages) {
+            page.setTextColor(color);
+        }
+    }
+
+    /**
+     * 목표 목록과 처음 보여줄 인덱스 설정
+     */
+    public void setGoals(String[] goals, int startIndex) {
+        this.goals = goals;
+        this.currentIndex = goals.length > 0 ? Math.floorMod(startIndex, goals.length) : 0;
+        this.currentSlot = 0;
+        generation++;
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            boundIndex[i] = -1;
+            prefetchedIndex[i] = -1;
+            fitted[i] = false;
+        }
+
+        bindSlot(currentSlot, currentIndex);
+        layoutPages();
+        prefetchNeighbours();
+    }
+
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
+
+    public int getGoalCount() {
+        return goals.length;
+    }
+
+    public void showNext() {
+        page(1);
+    }
+
+    public void showPrevious() {
+        page(-1);
+    }
+
+    private void page(int direction) {
+        if (goals.length < 2 || animating) {
+            return;
+        }
+
+        int width = getWidth();
+        TextView outgoing = pages[currentSlot];
+        int incomingSlot = slot(direction);
+        TextView incoming = pages[incomingSlot];
+
+        currentIndex = Math.floorMod(currentIndex + direction, goals.length);
+        currentSlot = incomingSlot;
+        if (boundIndex[incomingSlot] != currentIndex || !fitted[incomingSlot]) {
+            // 미리 측정이 끝나기 전에 넘긴 경우 - 현재 페이지이므로 바로 측정
+            bindSlot(incomingSlot, currentIndex);
+        }
+        animating = true;
+
+        incoming.setVisibility(VISIBLE);
+        outgoing.animate()
+                .translationX(-direction * width)
+                .setDuration(PAGE_ANIMATION_MS)
+                .setInterpolator(interpolator)
+                .withLayer();
+        incoming.animate()
+                .translationX(0f)
+                .setDuration(PAGE_ANIMATION_MS)
+                .setInterpolator(interpolator)
+                .withLayer()
+                .withEndAction(() -> {
+                    animating = false;
+                    layoutPages();
+                    prefetchNeighbours();
+                    // 리스너가 다른 뷰의 레이아웃을 바꿔도 전환 애니메이션과 겹치지 않도록 끝난 뒤에 알림
+                    if (onPageChangeListener != null) {
+                        onPageChangeListener.onPageChanged(currentIndex);
+                    }
+                });
+    }
+
+    // 현재 슬롯 기준 offset(-1, 0, 1) 위치의 슬롯
+    private int slot(int offset) {
+        return Math.floorMod(currentSlot + offset, PAGE_COUNT);
+    }
+
+    // 현재 페이지를 가운데, 이웃 페이지를 좌우 화면 밖에 배치
+    private void layoutPages() {
+        int width = getWidth();
+        for (int offset = -1; offset <= 1; offset++) {
+            TextView page = pages[slot(offset)];
+            page.animate().cancel();
+            page.setTranslationX(offset * width);
+            page.setVisibility(offset == 0 || goals.length > 1 ? VISIBLE : INVISIBLE);
+        }
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        if (!animating) {
+            layoutPages();
+        }
+
+        // 텍스트가 들어갈 영역이 바뀌었으면 모든 페이지를 다시 맞춤
+        TextView page = pages[currentSlot];
+        TextFitEngine.Spec spec = TextFitEngine.getInstance().specFor(page,
+                w - page.getPaddingLeft() - page.getPaddingRight(),
+                h - page.getPaddingTop() - page.getPaddingBottom());
+        if (!spec.isValid() || (fitSpec != null && fitSpec.hasSameKey(spec))) {
+            // 미리 적용한 결과가 그대로 유효함
+            return;
+        }
+        fitSpec = spec;
+        generation++;
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            prefetchedIndex[i] = -1;
+            fitted[i] = false;
+        }
+        if (goals.length > 0) {
+            bindSlot(currentSlot, currentIndex);
+            prefetchNeighbours();
+        }
+    }
+
+    // 슬롯에 목표 인덱스의 텍스트를 연결 (측정 결과가 있으면 그 크기로, 현재 페이지는 없으면 바로 측정)
+    private void bindSlot(int slot, int index) {
+        TextView page = pages[slot];
+        boundIndex[slot] = index;
+        fitted[slot] = false;
+        if (goals.length == 0) {
+            page.setText(LockScreenConfig.DEFAULT_GOAL_TEXT);
+            return;
+        }
+        if (fitSpec == null) {
+            page.setText(goals[index]);
+            return;
+        }
+
+        TextFitEngine engine = TextFitEngine.getInstance();
+        TextFitEngine.Fit fit = slot == currentSlot
+                ? engine.fit(goals[index], fitSpec)
+                : engine.getCached(goals[index], fitSpec);
+        if (fit != null) {
+            applyFit(slot, fit);
+        } else {
+            page.setText(goals[index]);
+        }
+    }
+
+    private void applyFit(int slot, TextFitEngine.Fit fit) {
+        TextFitEngine.apply(pages[slot], fit, goals[boundIndex[slot]]);
+        fitted[slot] = true;
+    }
+
+    // 좌우 이웃 페이지를 백그라운드에서 미리 측정한 뒤 슬롯에 연결
+    private void prefetchNeighbours() {
+        if (goals.length < 2 || fitSpec == null) {
+            return;
+        }
+
+        for (int offset = -1; offset <= 1; offset += 2) {
+            final int slot = slot(offset);
+            final int index = Math.floorMod(currentIndex + offset, goals.length);
+            if (boundIndex[slot] == index && fitted[slot]) {
+                continue;
+            }
+            if (boundIndex[slot] != index) {
+                // 캐시에 있으면 바로 연결
+                bindSlot(slot, index);
+                if (fitted[slot]) {
+                    continue;
+                }
+            }
+            if (prefetchedIndex[slot] == index) {
+                // 이미 측정 요청 중
+                continue;
+            }
+            prefetchedIndex[slot] = index;
+
+            final String text = goals[index];
+            final TextFitEngine.Spec spec = fitSpec;
+            final int requestGeneration = generation;
+            executor().execute(() -> {
+                TextFitEngine.Fit computed;
+                try {
+                    computed = TextFitEngine.getInstance().fit(text, spec);
+                } catch (RuntimeException e) {
+                    GoalLog.e(TAG, "글자 크기 측정 실패: {}", e.getMessage());
+                    return;
+                }
+                final TextFitEngine.Fit result = computed;
+                mainHandler.post(() -> {
+                    if (requestGeneration != generation || prefetchedIndex[slot] != index) {
+                        return;
+                    }
+                    prefetchedIndex[slot] = -1;
+                    if (boundIndex[slot] == index && !animating) {
+                        applyFit(slot, result);
+                    }
+                });
+            });
+        }
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (prefetchExecutor == null) {
+            prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "goalock-text-prefetch");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        return prefetchExecutor;
+    }
+}
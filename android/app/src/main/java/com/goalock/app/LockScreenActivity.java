@@ -1,36 +1,46 @@
 package com.goalock.app;
 
 import android.app.KeyguardManager;
+import android.content.BroadcastReceiver;
 import android.content.Context;
-import android.content.SharedPreferences;
-import android.graphics.Color;
+import android.content.Intent;
+import android.content.IntentFilter;
 import android.os.Build;
 import android.os.Bundle;
-import android.util.Log;
-import android.view.Gravity;
 import android.view.View;
+import android.view.ViewTreeObserver;
 import android.view.WindowManager;
-import android.widget.LinearLayout;
-import android.widget.TextView;
 
 import androidx.appcompat.app.AppCompatActivity;
 
 public class LockScreenActivity extends AppCompatActivity {
     private static final String TAG = "LockScreenActivity";
-    private static final String PREFS_NAME = "GoalockPrefs";
-    private static final String KEY_GOAL_TEXT = "goalText";
-    private static final String KEY_BG_COLOR = "backgroundColor";
-    private static final String KEY_TEXT_COLOR = "textColor";
 
     private KeyguardManager keyguardManager;
-    private String goalText = "목표를 설정해주세요";
-    private int backgroundColor = Color.GREEN;
-    private int textColor = Color.WHITE;
+    private boolean hasDeadline = false;
+
+    private DeadlineCountdownView countdownView;
+    private GoalPagerView pagerView;
+    private boolean timeTickRegistered = false;
+    // 첫 프레임을 그린 뒤에는 다시 표시될 때 바로 표시 완료로 기록
+    private boolean firstFrameDrawn = false;
+
+    // 화면에 보이는 동안에만 등록되는 분 단위 시계 수신기 - 화면이 꺼져 있을 때는 아무 작업도 하지 않음
+    private final BroadcastReceiver timeTickReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            String action = intent.getAction();
+            if (Intent.ACTION_TIMEZONE_CHANGED.equals(action)) {
+                countdownView.refreshTimeZone();
+            }
+            countdownView.update(System.currentTimeMillis());
+        }
+    };
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        Log.d(TAG, "LockScreenActivity 생성됨");
+        GoalLog.d(TAG, "LockScreenActivity 생성됨");
 
         // Android 8.0 이상에서는 새로운 방법으로 잠금화면 위에 표시
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O_MR1) {
@@ -68,98 +78,47 @@ public class LockScreenActivity extends AppCompatActivity {
                 View.SYSTEM_UI_FLAG_IMMERSIVE_STICKY
         );
 
-        // 설정 로드
-        loadSettings();
-
-        // 동적으로 레이아웃 생성 및 표시
-        setContentView(createLockScreenView());
-    }
-
-    private void loadSettings() {
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        
-        // 목표 텍스트 로드
-        goalText = prefs.getString(KEY_GOAL_TEXT, "목표를 설정해주세요");
+        // 레이아웃 표시
+        LockScreenView lockScreenView = createLockScreenView();
+        hasDeadline = lockScreenView.getConfig().hasDeadline();
+        countdownView = lockScreenView.getCountdownView();
+        pagerView = lockScreenView.getPagerView();
+        setContentView(lockScreenView);
         
-        // 색상 로드
-        try {
-            String bgColorStr = prefs.getString(KEY_BG_COLOR, "#FF4CAF50");
-            if (bgColorStr != null && !bgColorStr.isEmpty()) {
-                // # 문자 제거 후 HEX 색상 코드를 int로 변환
-                backgroundColor = Color.parseColor(bgColorStr);
-            }
-            
-            String textColorStr = prefs.getString(KEY_TEXT_COLOR, "#FFFFFFFF");
-            if (textColorStr != null && !textColorStr.isEmpty()) {
-                textColor = Color.parseColor(textColorStr);
+        // 첫 프레임이 그려지는 시점을 표시 완료로 기록
+        lockScreenView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                lockScreenView.getViewTreeObserver().removeOnPreDrawListener(this);
+                firstFrameDrawn = true;
+                LockScreenStager.getInstance().markRevealed();
+                DirectBootStore.recordShown(LockScreenActivity.this);
+                return true;
             }
-        } catch (IllegalArgumentException e) {
-            Log.e(TAG, "색상 파싱 오류: " + e.getMessage());
-            // 오류 발생 시 기본 색상 사용
-            backgroundColor = Color.GREEN;
-            textColor = Color.WHITE;
-        }
-        
-        Log.d(TAG, "설정 로드: goalText=" + goalText + ", bgColor=" + backgroundColor + ", textColor=" + textColor);
+        });
     }
 
-    private View createLockScreenView() {
-        // 루트 레이아웃 생성
-        LinearLayout rootLayout = new LinearLayout(this);
-        rootLayout.setLayoutParams(new LinearLayout.LayoutParams(
-                LinearLayout.LayoutParams.MATCH_PARENT,
-                LinearLayout.LayoutParams.MATCH_PARENT));
-        rootLayout.setOrientation(LinearLayout.VERTICAL);
-        rootLayout.setGravity(Gravity.CENTER);
-        rootLayout.setBackgroundColor(backgroundColor);
-        rootLayout.setId(View.generateViewId());
-        
-        // 목표 텍스트뷰 생성
-        TextView textView = new TextView(this);
-        textView.setLayoutParams(new LinearLayout.LayoutParams(
-                LinearLayout.LayoutParams.WRAP_CONTENT,
-                LinearLayout.LayoutParams.WRAP_CONTENT));
-        textView.setText(goalText);
-        textView.setTextColor(textColor);
-        textView.setTextSize(24);
-        textView.setPadding(16, 16, 16, 16);
-        textView.setGravity(Gravity.CENTER);
-        textView.setId(View.generateViewId());
-        
-        // 안내 텍스트뷰 생성
-        TextView hintTextView = new TextView(this);
-        hintTextView.setLayoutParams(new LinearLayout.LayoutParams(
-                LinearLayout.LayoutParams.WRAP_CONTENT,
-                LinearLayout.LayoutParams.WRAP_CONTENT));
-        
-        // 기본 잠금화면 사용 안내 메시지 추가
-        String hint = keyguardManager.isKeyguardSecure() ?
-                "스와이프하여 시스템 잠금화면으로 이동" :
-                "스와이프하여 잠금화면 해제";
-        
-        hintTextView.setText(hint);
-        hintTextView.setTextColor(textColor);
-        hintTextView.setTextSize(14);
-        LinearLayout.LayoutParams params = (LinearLayout.LayoutParams) hintTextView.getLayoutParams();
-        params.topMargin = 32;
-        hintTextView.setLayoutParams(params);
-        
-        // 뷰 추가
-        rootLayout.addView(textView);
-        rootLayout.addView(hintTextView);
+    private LockScreenView createLockScreenView() {
+        // 화면이 꺼져 있는 동안 준비된 뷰가 있으면 그대로 사용
+        LockScreenView rootLayout = LockScreenStager.getInstance().takeStagedView(this);
+        if (rootLayout == null) {
+            // 설정 로드 및 동적으로 레이아웃 생성
+            rootLayout = new LockScreenView(this, LockScreenConfig.load(this),
+                    LockScreenStager.getInstance().nextStartIndex(), keyguardManager.isKeyguardSecure());
+        }
         
         // 스와이프 이벤트 설정
         rootLayout.setOnTouchListener(new OnSwipeTouchListener(this) {
             @Override
             public void onSwipeRight() {
-                // 오른쪽으로 스와이프하면 액티비티 종료
-                finish();
+                // 오른쪽으로 스와이프하면 이전 목표로 이동
+                pagerView.showPrevious();
             }
             
             @Override
             public void onSwipeLeft() {
-                // 왼쪽으로 스와이프해도 액티비티 종료
-                finish();
+                // 왼쪽으로 스와이프하면 다음 목표로 이동
+                pagerView.showNext();
             }
             
             @Override
@@ -184,15 +143,60 @@ public class LockScreenActivity extends AppCompatActivity {
         // super.onBackPressed(); // 호출하지 않음
     }
 
+    @Override
+    protected void onNewIntent(Intent intent) {
+        super.onNewIntent(intent);
+        // 이미 표시 중일 때 다시 실행된 경우에도 전달 완료를 알릴 수 있도록 갱신
+        setIntent(intent);
+        // 이미 그려진 화면을 다시 쓰므로 첫 프레임을 기다리지 않고 표시 완료로 기록
+        LockScreenStager.getInstance().markRevealed();
+    }
+
     @Override
     protected void onResume() {
         super.onResume();
         // 키가드 해제 코드 제거 - 시스템 잠금화면이 나오도록 설정
+        
+        // 실행 전략 통계를 위해 전달 완료 알림
+        LockScreenLauncher.notifyDelivered(getIntent());
+        
+        if (firstFrameDrawn) {
+            LockScreenStager.getInstance().markRevealed();
+        }
+        
+        // 마감일이 있을 때만 분 단위 갱신 시작
+        if (hasDeadline && !timeTickRegistered) {
+            IntentFilter filter = new IntentFilter(Intent.ACTION_TIME_TICK);
+            filter.addAction(Intent.ACTION_TIME_CHANGED);
+            filter.addAction(Intent.ACTION_TIMEZONE_CHANGED);
+            registerReceiver(timeTickReceiver, filter);
+            timeTickRegistered = true;
+            
+            countdownView.refreshTimeZone();
+            countdownView.update(System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        
+        if (timeTickRegistered) {
+            unregisterReceiver(timeTickReceiver);
+            timeTickRegistered = false;
+        }
+    }
+
+    @Override
+    public void finish() {
+        // 다음 화면 켜짐에는 지금 보던 목표의 다음 목표부터 표시
+        LockScreenStager.getInstance().setLastShownIndex(pagerView.getCurrentIndex());
+        super.finish();
     }
 
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        Log.d(TAG, "LockScreenActivity 소멸됨");
+        GoalLog.d(TAG, "LockScreenActivity 소멸됨");
     }
 } 
\ No newline at end of file
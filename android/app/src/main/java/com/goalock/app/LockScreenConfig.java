@@ -0,0 +1,117 @@
+package com.goalock.app;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.graphics.Color;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * 잠금화면 표시에 필요한 설정값 스냅샷 (불변)
+ *
+ * SharedPreferences 읽기와 색상 파싱을 한 번에 처리하므로 백그라운드 스레드에서 미리 만들어 둘 수 있다.
+ */
+public final class LockScreenConfig {
+    private static final String TAG = "LockScreenConfig";
+    private static final String KEY_GOAL_TEXT = "goalText";
+    private static final String KEY_BG_COLOR = "backgroundColor";
+    private static final String KEY_TEXT_COLOR = "textColor";
+    private static final String KEY_LOCK_SCREEN_GOALS = "lockScreenGoals";
+
+    public static final String DEFAULT_GOAL_TEXT = "목표를 설정해주세요";
+
+    // 잠금화면에 표시할 목표들 (같은 인덱스끼리 대응, 마감일이 없으면 -1)
+    public final String[] goalTexts;
+    public final long[] goalDeadlines;
+    public final int backgroundColor;
+    public final int textColor;
+
+    public LockScreenConfig(String[] goalTexts, long[] goalDeadlines, int backgroundColor, int textColor) {
+        this.goalTexts = goalTexts;
+        this.goalDeadlines = goalDeadlines;
+        this.backgroundColor = backgroundColor;
+        this.textColor = textColor;
+    }
+
+    public int getGoalCount() {
+        return goalTexts.length;
+    }
+
+    /**
+     * 마감일이 있는 목표가 하나라도 있는지
+     */
+    public boolean hasDeadline() {
+        for (long deadline : goalDeadlines) {
+            if (deadline >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static LockScreenConfig load(Context context) {
+        // 첫 잠금 해제 전(Direct Boot)에는 기기 보호 저장소의 복사본을 읽음
+        SharedPreferences prefs = DirectBootStore.getPrefs(context);
+
+        // 목표 목록 로드 - 설정 화면의 목표 텍스트는 첫 페이지로 함께 표시 (마감일 없음)
+        String settingsGoalText = prefs.getString(KEY_GOAL_TEXT, null);
+        boolean hasSettingsGoal = settingsGoalText != null && !settingsGoalText.trim().isEmpty();
+        String[] goalTexts = null;
+        long[] goalDeadlines = null;
+        String goalsJson = prefs.getString(KEY_LOCK_SCREEN_GOALS, null);
+        if (goalsJson != null) {
+            try {
+                JSONArray goals = new JSONArray(goalsJson);
+                if (goals.length() > 0) {
+                    int offset = hasSettingsGoal ? 1 : 0;
+                    goalTexts = new String[goals.length() + offset];
+                    goalDeadlines = new long[goals.length() + offset];
+                    if (hasSettingsGoal) {
+                        goalTexts[0] = settingsGoalText;
+                        goalDeadlines[0] = -1L;
+                    }
+                    for (int i = 0; i < goals.length(); i++) {
+                        JSONObject goal = goals.getJSONObject(i);
+                        goalTexts[i + offset] = goal.optString("title", DEFAULT_GOAL_TEXT);
+                        goalDeadlines[i + offset] = goal.isNull("deadline") ? -1L : goal.optLong("deadline", -1L);
+                    }
+                }
+            } catch (JSONException e) {
+                GoalLog.e(TAG, "목표 목록 파싱 오류: {}", e.getMessage());
+                goalTexts = null;
+                goalDeadlines = null;
+            }
+        }
+        if (goalTexts == null) {
+            goalTexts = new String[] {hasSettingsGoal ? settingsGoalText : DEFAULT_GOAL_TEXT};
+            goalDeadlines = new long[] {-1L};
+        }
+
+        // 색상 로드
+        int backgroundColor = Color.GREEN;
+        int textColor = Color.WHITE;
+        try {
+            String bgColorStr = prefs.getString(KEY_BG_COLOR, "#FF4CAF50");
+            if (bgColorStr != null && !bgColorStr.isEmpty()) {
+                backgroundColor = Color.parseColor(bgColorStr);
+            }
+
+            String textColorStr = prefs.getString(KEY_TEXT_COLOR, "#FFFFFFFF");
+            if (textColorStr != null && !textColorStr.isEmpty()) {
+                textColor = Color.parseColor(textColorStr);
+            }
+        } catch (IllegalArgumentException e) {
+            GoalLog.e(TAG, "색상 파싱 오류: {}", e.getMessage());
+            // 오류 발생 시 기본 색상 사용
+            backgroundColor = Color.GREEN;
+            textColor = Color.WHITE;
+        }
+
+        if (GoalLog.isLoggable(GoalLog.DEBUG)) {
+            GoalLog.d(TAG, "설정 로드: goals={}, bgColor={}, textColor={}", goalTexts.length, backgroundColor, textColor);
+        }
+        return new LockScreenConfig(goalTexts, goalDeadlines, backgroundColor, textColor);
+    }
+}
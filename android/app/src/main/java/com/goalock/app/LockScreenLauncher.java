@@ -0,0 +1,533 @@
+package com.goalock.app;
+
+import android.app.Notification;
+import android.app.NotificationChannel;
+import android.app.NotificationManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+import android.content.SharedPreferences;
+import android.graphics.PixelFormat;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.PowerManager;
+import android.os.SystemClock;
+import android.provider.Settings;
+import android.view.Gravity;
+import android.view.View;
+import android.view.WindowManager;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.app.NotificationCompat;
+import androidx.core.app.NotificationManagerCompat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 잠금화면 액티비티를 띄우는 방법(전략)을 선택하고 결과를 측정하는 클래스
+ *
+ * - FULL_SCREEN_INTENT: 높은 우선순위 알림의 전체화면 인텐트로 실행
+ * - DIRECT_START: 백그라운드에서 startActivity 직접 호출
+ * - OVERLAY: 보이지 않는 오버레이 창을 띄우고, 창이 붙은 뒤에 startActivity 호출
+ *
+ * 액티비티가 onResume에서 전달 완료를 알려주면 지연 시간과 성공 여부를 전략별로 기록하고,
+ * 제한 시간 안에 전달되지 않으면 실패로 기록한 뒤 다음 전략으로 다시 시도한다.
+ * 시도마다 실행 번호가 따로 있어 늦게 도착한 전달도 실제로 띄운 전략의 성공으로 기록하며,
+ * 화면이 꺼져 있는 동안의 시간 초과는 실패로 보지 않는다.
+ * 기기마다 누적된 성공률과 지연 시간을 바탕으로 다음 실행 전략을 고른다. 메인 스레드에서만 사용한다.
+ */
+public class LockScreenLauncher {
+    private static final String TAG = "LockScreenLauncher";
+    private static final String KEY_PREFERRED_STRATEGY = "launchStrategy";
+    private static final String KEY_STATS_PREFIX = "launchStats_";
+
+    public static final String EXTRA_LAUNCH_ID = "com.goalock.app.LAUNCH_ID";
+
+    private static final String CHANNEL_ID = "goalock_lockscreen_channel";
+    private static final int NOTIFICATION_ID = 1002;
+
+    // 전달 확인 제한 시간
+    private static final long DELIVERY_TIMEOUT_MS = 2000L;
+    // 이 횟수만큼 시도하기 전까지는 각 전략을 골고루 시도
+    private static final int MIN_SAMPLES = 5;
+    // 성공률 차이가 이보다 작으면 지연 시간으로 비교
+    private static final double SUCCESS_RATE_TOLERANCE = 0.05;
+    // 이 횟수마다 한 번은 두 번째로 좋은 전략을 시도하여 통계를 최신으로 유지
+    private static final int EXPLORE_INTERVAL = 20;
+
+    public enum Strategy {
+        FULL_SCREEN_INTENT,
+        DIRECT_START,
+        OVERLAY
+    }
+
+    // 현재 전달 확인을 기다리는 런처 (서비스가 실행 중일 때만 존재)
+    @Nullable
+    private static LockScreenLauncher active;
+
+    private final Context context;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final SharedPreferences prefs;
+    private final Map<Strategy, StrategyStats> stats = new HashMap<>();
+
+    @Nullable
+    private Strategy preferredStrategy;
+    @Nullable
+    private Strategy lastStrategy;
+    private int launchCount = 0;
+
+    // 진행 중인 실행 - 실행 번호별 시도 (대체 전략으로 다시 시도하면 번호가 추가됨)
+    private final Map<Long, Attempt> pendingAttempts = new HashMap<>();
+    private long pendingLaunchId = 0L;
+    private long nextLaunchId = 1L;
+    @Nullable
+    private Strategy pendingStrategy;
+    private int pendingTriedMask = 0;
+    @Nullable
+    private View overlayView;
+
+    private final Runnable timeoutRunnable = this::onDeliveryTimeout;
+
+    public LockScreenLauncher(Context context) {
+        this.context = context;
+        // 첫 잠금 해제 전에도 기록할 수 있도록 기기 보호 저장소 사용
+        this.prefs = DirectBootStore.getDeviceProtectedPrefs(context);
+        for (Strategy strategy : Strategy.values()) {
+            stats.put(strategy, StrategyStats.load(prefs, strategy));
+        }
+        String preferred = prefs.getString(KEY_PREFERRED_STRATEGY, null);
+        preferredStrategy = parseStrategy(preferred);
+        createNotificationChannel();
+        active = this;
+    }
+
+    /**
+     * 서비스 종료 시 진행 중인 실행 정리
+     */
+    public void release() {
+        cancel();
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    /**
+     * 남아 있는 런처의 진행 중인 실행 정리 (테스트 사이 초기화)
+     */
+    @VisibleForTesting
+    static void releaseActive() {
+        if (active != null) {
+            active.release();
+        }
+    }
+
+    /**
+     * 특정 전략을 강제로 사용 (null이면 자동 선택)
+     */
+    public void setPreferredStrategy(@Nullable String name) {
+        preferredStrategy = parseStrategy(name);
+        prefs.edit().putString(KEY_PREFERRED_STRATEGY, preferredStrategy != null ? preferredStrategy.name() : null).apply();
+        GoalLog.i(TAG, "실행 전략 고정: {}", preferredStrategy);
+    }
+
+    /**
+     * 잠금화면 액티비티 실행
+     */
+    public void launch() {
+        // 이전 실행이 아직 확인되지 않았다면 결과 없이 정리
+        cancel();
+
+        launchCount++;
+        pendingTriedMask = 0;
+        deliver(chooseStrategy());
+    }
+
+    /**
+     * 진행 중인 실행을 결과 없이 정리 (SCREEN_OFF)
+     */
+    public void cancel() {
+        handler.removeCallbacks(timeoutRunnable);
+        cleanUpDelivery();
+        finishLaunch();
+    }
+
+    /**
+     * LockScreenActivity가 표시되었을 때 호출
+     */
+    public static void notifyDelivered(@Nullable Intent intent) {
+        if (active == null || intent == null) {
+            return;
+        }
+        long launchId = intent.getLongExtra(EXTRA_LAUNCH_ID, 0L);
+        active.onDelivered(launchId);
+    }
+
+    private void onDelivered(long launchId) {
+        Attempt attempt = pendingAttempts.get(launchId);
+        if (attempt == null) {
+            return;
+        }
+        handler.removeCallbacks(timeoutRunnable);
+
+        // 대체 전략을 시도하는 중에 도착했더라도 이 실행 번호로 띄운 전략의 성공으로 기록
+        long latencyMs = (SystemClock.elapsedRealtimeNanos() - attempt.startNanos) / 1_000_000L;
+        StrategyStats strategyStats = stats.get(attempt.strategy);
+        if (attempt.timedOut) {
+            strategyStats.recordLateSuccess(latencyMs);
+        } else {
+            strategyStats.recordSuccess(latencyMs);
+        }
+        strategyStats.save(prefs, attempt.strategy);
+        if (GoalLog.isLoggable(GoalLog.DEBUG)) {
+            GoalLog.d(TAG, "잠금화면 전달 완료: {}, {}ms", attempt.strategy, latencyMs);
+        }
+
+        cleanUpDelivery();
+        finishLaunch();
+    }
+
+    private void onDeliveryTimeout() {
+        Attempt attempt = pendingAttempts.get(pendingLaunchId);
+        if (attempt == null) {
+            return;
+        }
+        cleanUpDelivery();
+
+        // 화면이 꺼져 있으면 액티비티가 보일 수 없으므로 실패로 기록하지 않고 다시 시도하지도 않음
+        PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        if (powerManager != null && !powerManager.isInteractive()) {
+            GoalLog.i(TAG, "화면이 꺼져 있어 잠금화면 전달 확인 중단: {}", attempt.strategy);
+            finishLaunch();
+            return;
+        }
+
+        attempt.timedOut = true;
+        recordFailure(attempt.strategy);
+        GoalLog.w(TAG, "잠금화면 전달 시간 초과: {}", attempt.strategy);
+
+        // 아직 시도하지 않은 전략 중 가장 좋은 것으로 다시 시도
+        // (더 시도할 전략이 없어도 늦게 도착한 전달을 기록할 수 있도록 시도는 남겨 둠)
+        Strategy fallback = bestStrategy(pendingTriedMask);
+        if (fallback == null) {
+            return;
+        }
+        GoalLog.i(TAG, "대체 전략으로 재시도: {}", fallback);
+        try {
+            deliver(fallback);
+        } catch (RuntimeException e) {
+            GoalLog.e(TAG, "대체 전략 실행 실패: {}", e.getMessage());
+        }
+    }
+
+    // 전달 확인을 기다리는 시도를 모두 버림 (늦게 도착한 전달은 무시됨)
+    private void finishLaunch() {
+        pendingAttempts.clear();
+        pendingStrategy = null;
+        pendingLaunchId = 0L;
+    }
+
+    private void recordFailure(Strategy strategy) {
+        StrategyStats strategyStats = stats.get(strategy);
+        strategyStats.recordFailure();
+        strategyStats.save(prefs, strategy);
+    }
+
+    private void deliver(Strategy strategy) {
+        // 시도마다 새 실행 번호를 사용하여 어느 전략으로 띄운 액티비티인지 구분
+        long launchId = nextLaunchId++;
+        pendingAttempts.put(launchId, new Attempt(strategy, SystemClock.elapsedRealtimeNanos()));
+        pendingLaunchId = launchId;
+        pendingStrategy = strategy;
+        lastStrategy = strategy;
+        pendingTriedMask |= 1 << strategy.ordinal();
+
+        Intent lockIntent = new Intent(context, LockScreenActivity.class);
+        lockIntent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK |
+                         Intent.FLAG_ACTIVITY_SINGLE_TOP |
+                         Intent.FLAG_ACTIVITY_CLEAR_TOP);
+        lockIntent.putExtra(EXTRA_LAUNCH_ID, launchId);
+
+        switch (strategy) {
+            case FULL_SCREEN_INTENT:
+                postFullScreenNotification(lockIntent);
+                break;
+            case OVERLAY:
+                if (!addOverlayWindow(lockIntent)) {
+                    // 창을 띄우지 못한 오버레이 전략은 실패로 기록하고 직접 실행으로 이어서 시도
+                    pendingAttempts.remove(launchId);
+                    recordFailure(Strategy.OVERLAY);
+                    if ((pendingTriedMask & (1 << Strategy.DIRECT_START.ordinal())) == 0) {
+                        deliver(Strategy.DIRECT_START);
+                    }
+                    return;
+                }
+                break;
+            case DIRECT_START:
+            default:
+                context.startActivity(lockIntent);
+                break;
+        }
+
+        handler.postDelayed(timeoutRunnable, DELIVERY_TIMEOUT_MS);
+    }
+
+    // 다음 실행에 사용할 전략 선택
+    private Strategy chooseStrategy() {
+        if (preferredStrategy != null && isAvailable(preferredStrategy)) {
+            return preferredStrategy;
+        }
+
+        // 표본이 부족한 전략이 있으면 먼저 시도
+        for (Strategy strategy : Strategy.values()) {
+            if (isAvailable(strategy) && stats.get(strategy).attempts < MIN_SAMPLES) {
+                return strategy;
+            }
+        }
+
+        Strategy best = bestStrategy(0);
+        if (launchCount % EXPLORE_INTERVAL == 0 && best != null) {
+            Strategy second = bestStrategy(1 << best.ordinal());
+            if (second != null) {
+                return second;
+            }
+        }
+        return best != null ? best : Strategy.DIRECT_START;
+    }
+
+    // excludedMask에 포함되지 않은 사용 가능한 전략 중 가장 좋은 것 (없으면 null)
+    @Nullable
+    private Strategy bestStrategy(int excludedMask) {
+        Strategy best = null;
+        for (Strategy strategy : Strategy.values()) {
+            if ((excludedMask & (1 << strategy.ordinal())) != 0 || !isAvailable(strategy)) {
+                continue;
+            }
+            if (best == null || isBetter(stats.get(strategy), stats.get(best))) {
+                best = strategy;
+            }
+        }
+        return best;
+    }
+
+    private static boolean isBetter(StrategyStats candidate, StrategyStats current) {
+        double diff = candidate.successRate() - current.successRate();
+        if (Math.abs(diff) > SUCCESS_RATE_TOLERANCE) {
+            return diff > 0;
+        }
+        return candidate.averageLatencyMs() < current.averageLatencyMs();
+    }
+
+    private boolean isAvailable(Strategy strategy) {
+        switch (strategy) {
+            case FULL_SCREEN_INTENT:
+                if (!NotificationManagerCompat.from(context).areNotificationsEnabled()) {
+                    return false;
+                }
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.UPSIDE_DOWN_CAKE) {
+                    NotificationManager manager = context.getSystemService(NotificationManager.class);
+                    return manager != null && manager.canUseFullScreenIntent();
+                }
+                return true;
+            case OVERLAY:
+                return Settings.canDrawOverlays(context);
+            case DIRECT_START:
+            default:
+                return true;
+        }
+    }
+
+    // 전체화면 인텐트 알림 채널 생성 (Android 8.0 이상 필수)
+    private void createNotificationChannel() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            NotificationChannel channel = new NotificationChannel(
+                    CHANNEL_ID,
+                    "GoalLock 잠금화면",
+                    NotificationManager.IMPORTANCE_HIGH
+            );
+            channel.setDescription("잠금화면을 표시하기 위한 알림 채널");
+            channel.setSound(null, null);
+            channel.enableLights(false);
+            channel.enableVibration(false);
+
+            NotificationManager manager = context.getSystemService(NotificationManager.class);
+            manager.createNotificationChannel(channel);
+        }
+    }
+
+    private void postFullScreenNotification(Intent lockIntent) {
+        PendingIntent pendingIntent = PendingIntent.getActivity(
+                context,
+                0,
+                lockIntent,
+                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
+        );
+
+        Notification notification = new NotificationCompat.Builder(context, CHANNEL_ID)
+                .setSmallIcon(android.R.drawable.ic_lock_idle_lock)
+                .setContentTitle("GoalLock")
+                .setContentText("목표를 확인하세요")
+                .setPriority(NotificationCompat.PRIORITY_HIGH)
+                .setCategory(NotificationCompat.CATEGORY_ALARM)
+                .setFullScreenIntent(pendingIntent, true)
+                .setAutoCancel(true)
+                .build();
+
+        NotificationManager manager = context.getSystemService(NotificationManager.class);
+        manager.notify(NOTIFICATION_ID, notification);
+    }
+
+    // 보이는 창이 있는 앱은 백그라운드 액티비티 실행 제한을 받지 않으므로 투명한 1px 오버레이를 띄움
+    // (Android 15부터는 오버레이 권한만으로는 안 되고 오버레이 창이 실제로 보이고 있어야 함)
+    // 창이 붙은 뒤에 lockIntent를 실행하며, 창을 추가하지 못하면 false를 반환
+    private boolean addOverlayWindow(Intent lockIntent) {
+        WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        int type = Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+                ? WindowManager.LayoutParams.TYPE_APPLICATION_OVERLAY
+                : WindowManager.LayoutParams.TYPE_PHONE;
+        WindowManager.LayoutParams params = new WindowManager.LayoutParams(
+                1, 1, type,
+                WindowManager.LayoutParams.FLAG_NOT_FOCUSABLE |
+                WindowManager.LayoutParams.FLAG_NOT_TOUCHABLE,
+                PixelFormat.TRANSLUCENT);
+        params.gravity = Gravity.START | Gravity.TOP;
+
+        View view = new View(context);
+        try {
+            windowManager.addView(view, params);
+        } catch (RuntimeException e) {
+            GoalLog.e(TAG, "오버레이 창 추가 실패: {}", e.getMessage());
+            return false;
+        }
+        overlayView = view;
+
+        // post한 작업은 창에 붙고 첫 레이아웃이 끝난 뒤에 실행됨
+        final long launchId = pendingLaunchId;
+        view.post(() -> {
+            // 그 사이 시간 초과나 서비스 종료로 정리되었으면 실행하지 않음
+            if (overlayView != view || pendingLaunchId != launchId) {
+                return;
+            }
+            try {
+                context.startActivity(lockIntent);
+            } catch (RuntimeException e) {
+                GoalLog.e(TAG, "오버레이 전략 실행 실패: {}", e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    // 알림/오버레이 정리
+    private void cleanUpDelivery() {
+        if (pendingStrategy == Strategy.FULL_SCREEN_INTENT) {
+            NotificationManager manager = context.getSystemService(NotificationManager.class);
+            manager.cancel(NOTIFICATION_ID);
+        }
+        if (overlayView != null) {
+            WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+            try {
+                windowManager.removeView(overlayView);
+            } catch (RuntimeException e) {
+                GoalLog.e(TAG, "오버레이 창 제거 실패: {}", e.getMessage());
+            }
+            overlayView = null;
+        }
+    }
+
+    /**
+     * 전략별 통계를 stats에 추가
+     */
+    public void putStats(Map<String, Object> out) {
+        Map<String, Object> strategies = new HashMap<>();
+        for (Strategy strategy : Strategy.values()) {
+            StrategyStats strategyStats = stats.get(strategy);
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("available", isAvailable(strategy));
+            entry.put("attempts", strategyStats.attempts);
+            entry.put("successes", strategyStats.successes);
+            entry.put("successRate", strategyStats.successRate());
+            entry.put("avgLatencyMs", strategyStats.averageLatencyMs());
+            strategies.put(strategy.name(), entry);
+        }
+        out.put("launchStrategies", strategies);
+        out.put("preferredLaunchStrategy", preferredStrategy != null ? preferredStrategy.name() : null);
+        out.put("lastLaunchStrategy", lastStrategy != null ? lastStrategy.name() : null);
+    }
+
+    @Nullable
+    private static Strategy parseStrategy(@Nullable String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Strategy.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 전략별 누적 통계 (SharedPreferences에 저장)
+    private static final class StrategyStats {
+        int attempts;
+        int successes;
+        long totalLatencyMs;
+
+        static StrategyStats load(SharedPreferences prefs, Strategy strategy) {
+            StrategyStats result = new StrategyStats();
+            String prefix = KEY_STATS_PREFIX + strategy.name();
+            result.attempts = prefs.getInt(prefix + "_attempts", 0);
+            result.successes = prefs.getInt(prefix + "_successes", 0);
+            result.totalLatencyMs = prefs.getLong(prefix + "_latency", 0L);
+            return result;
+        }
+
+        void save(SharedPreferences prefs, Strategy strategy) {
+            String prefix = KEY_STATS_PREFIX + strategy.name();
+            prefs.edit()
+                    .putInt(prefix + "_attempts", attempts)
+                    .putInt(prefix + "_successes", successes)
+                    .putLong(prefix + "_latency", totalLatencyMs)
+                    .apply();
+        }
+
+        void recordSuccess(long latencyMs) {
+            attempts++;
+            successes++;
+            totalLatencyMs += latencyMs;
+        }
+
+        void recordFailure() {
+            attempts++;
+        }
+
+        // 시간 초과로 실패 기록한 시도가 뒤늦게 전달된 경우 (시도 횟수는 이미 반영됨)
+        void recordLateSuccess(long latencyMs) {
+            successes++;
+            totalLatencyMs += latencyMs;
+        }
+
+        double successRate() {
+            // 시도 기록이 없으면 낙관적으로 가정
+            return attempts > 0 ? (double) successes / attempts : 1.0;
+        }
+
+        double averageLatencyMs() {
+            return successes > 0 ? (double) totalLatencyMs / successes : 0.0;
+        }
+    }
+
+    // 실행 번호 하나에 해당하는 시도
+    private static final class Attempt {
+        final Strategy strategy;
+        final long startNanos;
+        // 시간 초과로 이미 실패 기록됨
+        boolean timedOut;
+
+        Attempt(Strategy strategy, long startNanos) {
+            this.strategy = strategy;
+            this.startNanos = startNanos;
+        }
+    }
+}
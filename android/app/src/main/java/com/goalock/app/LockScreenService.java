@@ -12,13 +12,16 @@ import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.SharedPreferences;
 import android.graphics.Color;
+import android.os.Binder;
 import android.os.Build;
 import android.os.IBinder;
 import android.os.PowerManager;
-import android.util.Log;
 import androidx.annotation.Nullable;
 import androidx.core.app.NotificationCompat;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import io.flutter.embedding.android.FlutterActivity;
 
 public class LockScreenService extends Service {
@@ -27,6 +30,7 @@ public class LockScreenService extends Service {
     private static final String KEY_GOAL_TEXT = "goalText";
     private static final String KEY_BG_COLOR = "backgroundColor";
     private static final String KEY_TEXT_COLOR = "textColor";
+    private static final String KEY_LOCK_SCREEN_GOALS = "lockScreenGoals";
     private static final String KEY_SERVICE_ENABLED = "lockScreenServiceEnabled";
     
     // Notification ID & Channel ID
@@ -37,16 +41,67 @@ public class LockScreenService extends Service {
     private PowerManager powerManager;
     private PowerManager.WakeLock wakeLock;
     private boolean isServiceRunning = false;
-    private String goalText = "";
-    private int backgroundColor = Color.GREEN;
-    private int textColor = Color.WHITE;
+
+    // 통계
+    private long startedAt = 0L;
+    private long lastShownAt = 0L;
+    private int screenOnCount = 0;
+    private int launchCount = 0;
+    private int launchFailureCount = 0;
+
+    private final LockScreenBinder binder = new LockScreenBinder();
+    private LockScreenLauncher launcher;
+
+    /**
+     * 같은 프로세스의 컴포넌트(MainActivity)가 Intent 없이 서비스를 직접 제어하기 위한 바인더
+     */
+    public class LockScreenBinder extends Binder {
+        public void updateGoalText(String newGoalText) {
+            LockScreenService.this.updateGoalText(newGoalText);
+        }
+
+        public void updateLockScreenGoals(String goalsJson) {
+            LockScreenService.this.updateLockScreenGoals(goalsJson);
+        }
+
+        public void updateBackgroundColor(String newBackgroundColor) {
+            LockScreenService.this.updateBackgroundColor(newBackgroundColor);
+        }
+
+        public void updateTextColor(String newTextColor) {
+            LockScreenService.this.updateTextColor(newTextColor);
+        }
+
+        public void updateColors(String newBackgroundColor, String newTextColor) {
+            LockScreenService.this.updateColors(newBackgroundColor, newTextColor);
+        }
+
+        public boolean isRunning() {
+            return isServiceRunning;
+        }
+
+        public Map<String, Object> getStats() {
+            return LockScreenService.this.getStats();
+        }
+
+        public void showNow() {
+            showLockScreenActivity();
+        }
+
+        public void setLaunchStrategy(@Nullable String strategy) {
+            launcher.setPreferredStrategy(strategy);
+        }
+    }
 
     private final BroadcastReceiver screenOffReceiver = new BroadcastReceiver() {
         @Override
         public void onReceive(Context context, Intent intent) {
             if (Intent.ACTION_SCREEN_OFF.equals(intent.getAction())) {
-                Log.d(TAG, "화면이 꺼졌습니다. 다음 화면 켜짐을 준비합니다.");
-                // 화면이 꺼지면 특별한 처리 없음, 다음 켜짐 이벤트를 기다림
+                GoalLog.d(TAG, "화면이 꺼졌습니다. 다음 화면 켜짐을 준비합니다.");
+                // 화면이 꺼진 뒤의 전달 시간 초과는 실패가 아니므로 진행 중인 실행 정리
+                launcher.cancel();
+                // 화면이 꺼져 있는 동안 다음 잠금화면을 미리 만들어 둠
+                LockScreenStager.getInstance().stage(context);
             }
         }
     };
@@ -55,7 +110,9 @@ public class LockScreenService extends Service {
         @Override
         public void onReceive(Context context, Intent intent) {
             if (Intent.ACTION_SCREEN_ON.equals(intent.getAction())) {
-                Log.d(TAG, "화면이 켜졌습니다. 잠금화면 액티비티를 시작합니다.");
+                GoalLog.d(TAG, "화면이 켜졌습니다. 잠금화면 액티비티를 시작합니다.");
+                screenOnCount++;
+                LockScreenStager.getInstance().markRevealStart();
                 showLockScreenActivity();
             }
         }
@@ -67,15 +124,30 @@ public class LockScreenService extends Service {
         public void onReceive(Context context, Intent intent) {
             if (Intent.ACTION_USER_PRESENT.equals(intent.getAction())) {
                 // 사용자가 기본 잠금화면을 해제했을 때 호출됩니다
-                Log.d(TAG, "사용자가 기본 잠금화면을 해제했습니다.");
+                GoalLog.d(TAG, "사용자가 기본 잠금화면을 해제했습니다.");
+            }
+        }
+    };
+
+    // 첫 잠금 해제 시 자격 증명 저장소의 최신 설정으로 교체
+    private final BroadcastReceiver userUnlockedReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            if (Intent.ACTION_USER_UNLOCKED.equals(intent.getAction())) {
+                GoalLog.i(TAG, "사용자가 부팅 후 처음 잠금을 해제했습니다. 설정을 다시 로드합니다.");
+                unregisterUserUnlockedReceiver();
+                DirectBootStore.sync(LockScreenService.this);
+                LockScreenStager.getInstance().invalidate();
             }
         }
     };
+    private boolean userUnlockedReceiverRegistered = false;
 
     @Override
     public void onCreate() {
         super.onCreate();
-        Log.d(TAG, "잠금화면 서비스 시작됨");
+        GoalLog.init(this);
+        GoalLog.i(TAG, "잠금화면 서비스 시작됨");
         
         // Android 8.0 이상에서는 Foreground Service 필요
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
@@ -94,8 +166,19 @@ public class LockScreenService extends Service {
                 "goalock:wakelock"
         );
         
-        // 설정 로드
-        loadSettings();
+        // Direct Boot로 먼저 시작된 경우 잠금 해제를 기다렸다가 설정을 다시 로드
+        if (DirectBootStore.isUserUnlocked(this)) {
+            DirectBootStore.sync(this);
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            registerReceiver(userUnlockedReceiver, new IntentFilter(Intent.ACTION_USER_UNLOCKED));
+            userUnlockedReceiverRegistered = true;
+        }
+        
+        // 잠금화면 사전 준비 스레드 시작
+        LockScreenStager.getInstance().start();
+        
+        // 잠금화면 실행 전략 초기화
+        launcher = new LockScreenLauncher(this);
         
         // 서비스 활성화 상태 저장
         saveServiceState(true);
@@ -111,14 +194,16 @@ public class LockScreenService extends Service {
         IntentFilter keyguardFilter = new IntentFilter(Intent.ACTION_USER_PRESENT);
         registerReceiver(keyguardReceiver, keyguardFilter);
         
+        startedAt = System.currentTimeMillis();
         isServiceRunning = true;
     }
     
     private void saveServiceState(boolean enabled) {
-        SharedPreferences.Editor editor = getSharedPreferences(PREFS_NAME, MODE_PRIVATE).edit();
+        SharedPreferences.Editor editor = DirectBootStore.getPrefs(this).edit();
         editor.putBoolean(KEY_SERVICE_ENABLED, enabled);
         editor.apply();
-        Log.d(TAG, "서비스 상태 저장: " + enabled);
+        DirectBootStore.sync(this);
+        GoalLog.d(TAG, "서비스 상태 저장: {}", enabled);
     }
     
     // 알림 채널 생성 (Android 8.0 이상 필수)
@@ -138,7 +223,7 @@ public class LockScreenService extends Service {
             NotificationManager manager = getSystemService(NotificationManager.class);
             manager.createNotificationChannel(channel);
             
-            Log.d(TAG, "알림 채널 생성됨");
+            GoalLog.d(TAG, "알림 채널 생성됨");
         }
     }
     
@@ -174,29 +259,6 @@ public class LockScreenService extends Service {
         return builder.build();
     }
 
-    private void loadSettings() {
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        goalText = prefs.getString(KEY_GOAL_TEXT, "목표를 설정해주세요");
-        
-        try {
-            String bgColorStr = prefs.getString(KEY_BG_COLOR, "#FF4CAF50");
-            if (bgColorStr != null && !bgColorStr.isEmpty()) {
-                backgroundColor = Color.parseColor(bgColorStr);
-            }
-            
-            String textColorStr = prefs.getString(KEY_TEXT_COLOR, "#FFFFFFFF");
-            if (textColorStr != null && !textColorStr.isEmpty()) {
-                textColor = Color.parseColor(textColorStr);
-            }
-        } catch (IllegalArgumentException e) {
-            Log.e(TAG, "색상 파싱 오류: " + e.getMessage());
-            backgroundColor = Color.GREEN;
-            textColor = Color.WHITE;
-        }
-        
-        Log.d(TAG, "설정 로드: goalText=" + goalText + ", bgColor=" + backgroundColor + ", textColor=" + textColor);
-    }
-
     // LockScreenActivity를 시작하는 메서드
     private void showLockScreenActivity() {
         if (!isServiceRunning) {
@@ -209,22 +271,19 @@ public class LockScreenService extends Service {
                 wakeLock.acquire(10*60*1000L); // 10분 동안 WakeLock 유지 (안전장치)
             }
             
-            // 잠금화면 액티비티 시작
-            Intent lockIntent = new Intent(this, LockScreenActivity.class);
-            lockIntent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK |
-                             Intent.FLAG_ACTIVITY_SINGLE_TOP |
-                             Intent.FLAG_ACTIVITY_CLEAR_TOP);
-            
-            // 활동 시작
-            startActivity(lockIntent);
-            Log.d(TAG, "잠금화면 액티비티 시작됨");
+            // 기기별로 가장 잘 전달되는 방법으로 잠금화면 액티비티 시작
+            launcher.launch();
+            launchCount++;
+            lastShownAt = System.currentTimeMillis();
+            GoalLog.d(TAG, "잠금화면 액티비티 시작됨");
             
             // WakeLock 해제
             if (wakeLock.isHeld()) {
                 wakeLock.release();
             }
         } catch (Exception e) {
-            Log.e(TAG, "잠금화면 액티비티 시작 실패: " + e.getMessage());
+            GoalLog.e(TAG, "잠금화면 액티비티 시작 실패: {}", e.getMessage());
+            launchFailureCount++;
             
             // WakeLock 해제 (예외 발생 시에도)
             if (wakeLock != null && wakeLock.isHeld()) {
@@ -234,37 +293,108 @@ public class LockScreenService extends Service {
     }
 
     public void updateGoalText(String newGoalText) {
-        goalText = newGoalText;
+        // 설정 저장 (잠금화면은 표시할 때마다 LockScreenConfig로 다시 읽음)
+        SharedPreferences.Editor editor = getSharedPreferences(PREFS_NAME, MODE_PRIVATE).edit();
+        editor.putString(KEY_GOAL_TEXT, newGoalText);
+        editor.apply();
+        LockScreenStager.getInstance().invalidate();
+        DirectBootStore.sync(this);
         
-        // 설정 저장
+        GoalLog.d(TAG, "목표 텍스트 업데이트: {}자", newGoalText.length());
+    }
+
+    // 잠금화면에서 넘겨 볼 목표 목록 저장 (LockScreenConfig가 JSON을 파싱)
+    public void updateLockScreenGoals(String goalsJson) {
         SharedPreferences.Editor editor = getSharedPreferences(PREFS_NAME, MODE_PRIVATE).edit();
-        editor.putString(KEY_GOAL_TEXT, goalText);
+        editor.putString(KEY_LOCK_SCREEN_GOALS, goalsJson);
         editor.apply();
+        LockScreenStager.getInstance().invalidate();
+        DirectBootStore.sync(this);
         
-        Log.d(TAG, "목표 텍스트 업데이트: " + goalText);
+        GoalLog.d(TAG, "잠금화면 목표 목록 업데이트");
+    }
+
+    public void updateBackgroundColor(String newBackgroundColor) {
+        try {
+            // 잘못된 색상 문자열은 저장하지 않음
+            Color.parseColor(newBackgroundColor);
+            
+            SharedPreferences.Editor editor = getSharedPreferences(PREFS_NAME, MODE_PRIVATE).edit();
+            editor.putString(KEY_BG_COLOR, newBackgroundColor);
+            editor.apply();
+            LockScreenStager.getInstance().invalidate();
+            DirectBootStore.sync(this);
+            
+            GoalLog.d(TAG, "배경색 업데이트됨: {}", newBackgroundColor);
+        } catch (IllegalArgumentException e) {
+            GoalLog.e(TAG, "색상 파싱 오류: {}", e.getMessage());
+        }
+    }
+
+    public void updateTextColor(String newTextColor) {
+        try {
+            // 잘못된 색상 문자열은 저장하지 않음
+            Color.parseColor(newTextColor);
+            
+            SharedPreferences.Editor editor = getSharedPreferences(PREFS_NAME, MODE_PRIVATE).edit();
+            editor.putString(KEY_TEXT_COLOR, newTextColor);
+            editor.apply();
+            LockScreenStager.getInstance().invalidate();
+            DirectBootStore.sync(this);
+            
+            GoalLog.d(TAG, "텍스트 색상 업데이트됨: {}", newTextColor);
+        } catch (IllegalArgumentException e) {
+            GoalLog.e(TAG, "색상 파싱 오류: {}", e.getMessage());
+        }
     }
 
     public void updateColors(String newBackgroundColor, String newTextColor) {
         try {
-            backgroundColor = Color.parseColor(newBackgroundColor);
-            textColor = Color.parseColor(newTextColor);
+            // 잘못된 색상 문자열은 저장하지 않음
+            Color.parseColor(newBackgroundColor);
+            Color.parseColor(newTextColor);
             
             // 설정 저장
             SharedPreferences.Editor editor = getSharedPreferences(PREFS_NAME, MODE_PRIVATE).edit();
             editor.putString(KEY_BG_COLOR, newBackgroundColor);
             editor.putString(KEY_TEXT_COLOR, newTextColor);
             editor.apply();
+            LockScreenStager.getInstance().invalidate();
+            DirectBootStore.sync(this);
             
-            Log.d(TAG, "색상 업데이트됨: bg=" + newBackgroundColor + ", text=" + newTextColor);
+            GoalLog.d(TAG, "색상 업데이트됨: bg={}, text={}", newBackgroundColor, newTextColor);
         } catch (IllegalArgumentException e) {
-            Log.e(TAG, "색상 파싱 오류: " + e.getMessage());
+            GoalLog.e(TAG, "색상 파싱 오류: {}", e.getMessage());
         }
     }
 
+    private void unregisterUserUnlockedReceiver() {
+        if (userUnlockedReceiverRegistered) {
+            unregisterReceiver(userUnlockedReceiver);
+            userUnlockedReceiverRegistered = false;
+        }
+    }
+
+    // 서비스 상태 및 통계
+    private Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("running", isServiceRunning);
+        stats.put("startedAt", startedAt);
+        stats.put("lastShownAt", lastShownAt);
+        stats.put("screenOnCount", screenOnCount);
+        stats.put("launchCount", launchCount);
+        stats.put("launchFailureCount", launchFailureCount);
+        LockScreenStager.getInstance().putStats(stats);
+        launcher.putStats(stats);
+        TextFitEngine.getInstance().putStats(stats);
+        DirectBootStore.putStats(this, stats);
+        return stats;
+    }
+
     @Nullable
     @Override
     public IBinder onBind(Intent intent) {
-        return null;
+        return binder;
     }
 
     @Override
@@ -299,8 +429,9 @@ public class LockScreenService extends Service {
             unregisterReceiver(screenOffReceiver);
             unregisterReceiver(screenOnReceiver);
             unregisterReceiver(keyguardReceiver);
+            unregisterUserUnlockedReceiver();
         } catch (Exception e) {
-            Log.e(TAG, "리시버 해제 중 오류: " + e.getMessage());
+            GoalLog.e(TAG, "리시버 해제 중 오류: {}", e.getMessage());
         }
         
         // WakeLock 해제 확인
@@ -308,7 +439,11 @@ public class LockScreenService extends Service {
             wakeLock.release();
         }
         
+        // 준비된 잠금화면 폐기 및 스레드 종료
+        LockScreenStager.getInstance().stop();
+        launcher.release();
+        
         isServiceRunning = false;
-        Log.d(TAG, "잠금화면 서비스 종료됨");
+        GoalLog.i(TAG, "잠금화면 서비스 종료됨");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.goalock.app;
+
+import android.app.KeyguardManager;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.content.pm.PackageManager;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.ContextThemeWrapper;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Map;
+
+/**
+ * 화면이 꺼져 있는 동안 다음 잠금화면을 미리 준비해 두는 클래스
+ *
+ * SCREEN_OFF 시점에 설정 읽기와 목표 글자 크기 측정을 백그라운드 스레드에서 하고,
+ * 메인 스레드가 한가할 때 뷰 계층을 만들어 둔다.
+ * SCREEN_ON 이후 LockScreenActivity는 준비된 뷰를 가져가 표시만 하면 된다.
+ * 준비 단계와 표시 단계에 걸린 시간은 따로 기록한다. 모든 메서드는 메인 스레드에서 호출해야 한다.
+ */
+public final class LockScreenStager {
+    private static final String TAG = "LockScreenStager";
+
+    private static final LockScreenStager INSTANCE = new LockScreenStager();
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    @Nullable
+    private HandlerThread stagingThread;
+    @Nullable
+    private Handler stagingHandler;
+
+    // 준비된 잠금화면 (없으면 null)
+    @Nullable
+    private LockScreenView stagedView;
+    // 진행 중인 준비 작업 번호 - invalidate()나 새 준비 요청이 오면 이전 결과는 버림
+    private int generation = 0;
+
+    // 마지막으로 표시한 목표 인덱스 - 다음 화면 켜짐에는 그 다음 목표부터 보여줌
+    private int lastShownIndex = -1;
+
+    private long stageStartNanos = 0L;
+    private long revealStartNanos = 0L;
+
+    // 통계
+    private int stagingCount = 0;
+    private long lastStagingNanos = 0L;
+    private long totalStagingNanos = 0L;
+    private int revealCount = 0;
+    private long lastRevealNanos = 0L;
+    private long totalRevealNanos = 0L;
+    private int stagedHitCount = 0;
+    private int stagedMissCount = 0;
+
+    private LockScreenStager() {
+    }
+
+    public static LockScreenStager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 준비 작업용 스레드 시작 (LockScreenService.onCreate)
+     */
+    public void start() {
+        if (stagingThread != null) {
+            return;
+        }
+        stagingThread = new HandlerThread("goalock-stager", android.os.Process.THREAD_PRIORITY_BACKGROUND);
+        stagingThread.start();
+        stagingHandler = new Handler(stagingThread.getLooper());
+    }
+
+    /**
+     * 준비 작업용 스레드 종료 및 준비된 화면 폐기 (LockScreenService.onDestroy)
+     */
+    public void stop() {
+        invalidate();
+        if (stagingThread != null) {
+            stagingThread.quitSafely();
+            stagingThread = null;
+            stagingHandler = null;
+        }
+    }
+
+    /**
+     * 다음 화면 켜짐을 위한 잠금화면 준비 시작 (SCREEN_OFF)
+     */
+    public void stage(Context context) {
+        if (stagingHandler == null) {
+            return;
+        }
+
+        final Context appContext = context.getApplicationContext();
+        final int stageGeneration = ++generation;
+        final int startIndex = nextStartIndex();
+        stagedView = null;
+        stageStartNanos = SystemClock.elapsedRealtimeNanos();
+        // 화면이 꺼졌으므로 이전 화면 켜짐의 측정은 더 이상 끝나지 않음
+        revealStartNanos = 0L;
+
+        stagingHandler.post(() -> {
+            // 1단계 (백그라운드): 설정 읽기 및 파싱
+            final LockScreenConfig config = LockScreenConfig.load(appContext);
+            KeyguardManager keyguardManager =
+                    (KeyguardManager) appContext.getSystemService(Context.KEYGUARD_SERVICE);
+            final boolean keyguardSecure = keyguardManager != null && keyguardManager.isKeyguardSecure();
+            final int theme = lockScreenTheme(appContext);
+            // 처음 보여줄 목표와 이웃 목표의 글자 크기를 미리 측정
+            TextFitEngine.getInstance().prefetch(config.goalTexts, startIndex);
+
+            // 2단계 (메인 스레드 유휴 시간): 뷰 계층 생성
+            mainHandler.post(() -> Looper.myQueue().addIdleHandler(() -> {
+                if (stageGeneration != generation) {
+                    return false;
+                }
+                // 액티비티와 같은 테마로 만들고, 액티비티에 붙일 때 실제 컨텍스트로 교체할 수 있도록 래핑
+                MutableContextWrapper wrapper =
+                        new MutableContextWrapper(new ContextThemeWrapper(appContext, theme));
+                stagedView = new LockScreenView(wrapper, config, startIndex, keyguardSecure);
+
+                lastStagingNanos = SystemClock.elapsedRealtimeNanos() - stageStartNanos;
+                totalStagingNanos += lastStagingNanos;
+                stagingCount++;
+                GoalLog.d(TAG, "잠금화면 준비 완료: {}us", lastStagingNanos / 1000);
+                return false;
+            }));
+        });
+    }
+
+    // 매니페스트에 지정된 LockScreenActivity 테마 (없으면 앱 테마)
+    private static int lockScreenTheme(Context context) {
+        try {
+            return context.getPackageManager()
+                    .getActivityInfo(new ComponentName(context, LockScreenActivity.class), 0)
+                    .getThemeResource();
+        } catch (PackageManager.NameNotFoundException e) {
+            return context.getApplicationInfo().theme;
+        }
+    }
+
+    /**
+     * 준비된 화면 폐기 (설정이 바뀐 경우)
+     */
+    public void invalidate() {
+        generation++;
+        stagedView = null;
+    }
+
+    /**
+     * 잠금화면을 닫을 때 표시 중이던 목표 인덱스 기록
+     */
+    public void setLastShownIndex(int index) {
+        lastShownIndex = index;
+    }
+
+    /**
+     * 다음 잠금화면에서 처음 보여줄 목표 인덱스 (목표 수로 나눈 나머지는 페이저가 처리)
+     */
+    public int nextStartIndex() {
+        return lastShownIndex + 1;
+    }
+
+    /**
+     * 화면 켜짐 시점 기록 (SCREEN_ON) - 표시 단계 시간 측정의 시작점
+     */
+    public void markRevealStart() {
+        revealStartNanos = SystemClock.elapsedRealtimeNanos();
+    }
+
+    /**
+     * 준비된 화면을 context(액티비티)에 연결하여 반환. 준비된 화면이 없으면 null
+     */
+    @Nullable
+    public LockScreenView takeStagedView(Context context) {
+        // 아직 실행되지 않은 준비 작업이 이전 시작 인덱스로 만든 화면을 나중에 넣지 않도록 무효화
+        generation++;
+        LockScreenView view = stagedView;
+        stagedView = null;
+        if (view == null) {
+            stagedMissCount++;
+            return null;
+        }
+
+        ((MutableContextWrapper) view.getContext()).setBaseContext(context);
+        stagedHitCount++;
+        return view;
+    }
+
+    /**
+     * 잠금화면이 그려진 시점 기록 - 표시 단계 시간 측정의 끝점 (측정 중이 아니면 무시)
+     */
+    public void markRevealed() {
+        if (revealStartNanos == 0L) {
+            return;
+        }
+        lastRevealNanos = SystemClock.elapsedRealtimeNanos() - revealStartNanos;
+        totalRevealNanos += lastRevealNanos;
+        revealCount++;
+        revealStartNanos = 0L;
+        GoalLog.d(TAG, "잠금화면 표시 완료: {}us", lastRevealNanos / 1000);
+    }
+
+    /**
+     * 준비/표시 단계 통계를 stats에 추가 (밀리초 단위)
+     */
+    public void putStats(Map<String, Object> stats) {
+        stats.put("stagingCount", stagingCount);
+        stats.put("lastStagingMs", lastStagingNanos / 1e6);
+        stats.put("avgStagingMs", stagingCount > 0 ? totalStagingNanos / 1e6 / stagingCount : 0.0);
+        stats.put("revealCount", revealCount);
+        stats.put("lastRevealMs", lastRevealNanos / 1e6);
+        stats.put("avgRevealMs", revealCount > 0 ? totalRevealNanos / 1e6 / revealCount : 0.0);
+        stats.put("stagedHitCount", stagedHitCount);
+        stats.put("stagedMissCount", stagedMissCount);
+    }
+
+    /**
+     * 스레드를 종료하고 표시 인덱스와 통계를 처음 상태로 되돌림 (테스트 사이 초기화)
+     */
+    @VisibleForTesting
+    void reset() {
+        stop();
+        lastShownIndex = -1;
+        stageStartNanos = 0L;
+        revealStartNanos = 0L;
+        stagingCount = 0;
+        lastStagingNanos = 0L;
+        totalStagingNanos = 0L;
+        revealCount = 0;
+        lastRevealNanos = 0L;
+        totalRevealNanos = 0L;
+        stagedHitCount = 0;
+        stagedMissCount = 0;
+    }
+}
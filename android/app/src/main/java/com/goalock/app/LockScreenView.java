@@ -0,0 +1,109 @@
+package com.goalock.app;
+
+import android.content.Context;
+import android.view.Gravity;
+import android.view.View;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+/**
+ * 잠금화면 루트 뷰 (목표 페이저, 마감일 카운트다운, 안내 문구)
+ *
+ * 액티비티 없이도 만들 수 있으므로 화면이 꺼져 있는 동안 LockScreenStager가 미리 생성해 둔다.
+ */
+public class LockScreenView extends LinearLayout {
+    private final LockScreenConfig config;
+    private final DeadlineCountdownView countdownView;
+    private final GoalPagerView pagerView;
+    private final TextView pageIndicatorView;
+
+    public LockScreenView(Context context, LockScreenConfig config, int startIndex, boolean keyguardSecure) {
+        super(context);
+        this.config = config;
+
+        // 루트 레이아웃 설정
+        setLayoutParams(new LinearLayout.LayoutParams(
+                LinearLayout.LayoutParams.MATCH_PARENT,
+                LinearLayout.LayoutParams.MATCH_PARENT));
+        setOrientation(LinearLayout.VERTICAL);
+        setGravity(Gravity.CENTER);
+        setBackgroundColor(config.backgroundColor);
+        setId(View.generateViewId());
+
+        // 목표 페이저 생성 (좌우 스와이프로 목표 전환) - 남은 공간을 모두 사용하고 글자 크기를 그 공간에 맞춤
+        pagerView = new GoalPagerView(context);
+        pagerView.setLayoutParams(new LinearLayout.LayoutParams(
+                LinearLayout.LayoutParams.MATCH_PARENT, 0, 1f));
+        pagerView.setTextColor(config.textColor);
+        pagerView.setId(View.generateViewId());
+
+        // 마감일 카운트다운 뷰 생성
+        countdownView = new DeadlineCountdownView(context);
+        countdownView.setLayoutParams(new LinearLayout.LayoutParams(
+                LinearLayout.LayoutParams.WRAP_CONTENT,
+                LinearLayout.LayoutParams.WRAP_CONTENT));
+        countdownView.setTextColor(config.textColor);
+        countdownView.setId(View.generateViewId());
+
+        // 목표가 여러 개일 때 현재 위치 표시
+        pageIndicatorView = new TextView(context);
+        pageIndicatorView.setLayoutParams(new LinearLayout.LayoutParams(
+                LinearLayout.LayoutParams.WRAP_CONTENT,
+                LinearLayout.LayoutParams.WRAP_CONTENT));
+        pageIndicatorView.setTextColor(config.textColor);
+        pageIndicatorView.setTextSize(12);
+        pageIndicatorView.setVisibility(config.getGoalCount() > 1 ? View.VISIBLE : View.GONE);
+        pageIndicatorView.setId(View.generateViewId());
+
+        // 안내 텍스트뷰 생성
+        TextView hintTextView = new TextView(context);
+        hintTextView.setLayoutParams(new LinearLayout.LayoutParams(
+                LinearLayout.LayoutParams.WRAP_CONTENT,
+                LinearLayout.LayoutParams.WRAP_CONTENT));
+
+        // 기본 잠금화면 사용 안내 메시지 추가
+        String hint = keyguardSecure ?
+                "스와이프하여 시스템 잠금화면으로 이동" :
+                "스와이프하여 잠금화면 해제";
+
+        hintTextView.setText(hint);
+        hintTextView.setTextColor(config.textColor);
+        hintTextView.setTextSize(14);
+        LinearLayout.LayoutParams params = (LinearLayout.LayoutParams) hintTextView.getLayoutParams();
+        params.topMargin = 32;
+        hintTextView.setLayoutParams(params);
+
+        // 뷰 추가 - 카운트다운은 마감일이 있는 목표가 하나라도 있을 때만 자리를 차지함
+        if (config.hasDeadline()) {
+            addView(countdownView);
+        }
+        addView(pagerView);
+        addView(pageIndicatorView);
+        addView(hintTextView);
+
+        pagerView.setOnPageChangeListener(this::bindPage);
+        pagerView.setGoals(config.goalTexts, startIndex);
+        bindPage(pagerView.getCurrentIndex());
+    }
+
+    // 현재 목표에 맞춰 카운트다운과 위치 표시 갱신
+    private void bindPage(int index) {
+        countdownView.setDeadline(config.goalDeadlines[index]);
+        countdownView.update(System.currentTimeMillis());
+        if (config.getGoalCount() > 1) {
+            pageIndicatorView.setText((index + 1) + " / " + config.getGoalCount());
+        }
+    }
+
+    public LockScreenConfig getConfig() {
+        return config;
+    }
+
+    public DeadlineCountdownView getCountdownView() {
+        return countdownView;
+    }
+
+    public GoalPagerView getPagerView() {
+        return pagerView;
+    }
+}
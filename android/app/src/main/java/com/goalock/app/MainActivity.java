@@ -1,43 +1,120 @@
 package com.goalock.app;
 
-import android.app.ActivityManager;
-import android.content.Context;
+import android.content.ComponentName;
 import android.content.Intent;
+import android.content.ServiceConnection;
 import android.content.SharedPreferences;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.IBinder;
+import android.os.Looper;
 import android.provider.Settings;
-import android.util.Log;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import io.flutter.embedding.android.FlutterActivity;
 import io.flutter.embedding.engine.FlutterEngine;
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
 import io.flutter.plugins.GeneratedPluginRegistrant;
 
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 public class MainActivity extends FlutterActivity {
     private static final String TAG = "MainActivity";
     private static final String CHANNEL = "com.goalock.app/lockscreen";
+    private static final String BACKUP_CHANNEL = "com.goalock.app/backup";
+    private static final String BACKUP_PROGRESS_CHANNEL = "com.goalock.app/backup_progress";
+    private static final String DEFAULT_BACKUP_FILE = "goalock_backup.json.gz";
     private static final String PREFS_NAME = "GoalockPrefs";
     private static final String KEY_SERVICE_ENABLED = "lockScreenServiceEnabled";
     private static final String KEY_GOAL_TEXT = "goalText";
     private static final String KEY_BACKGROUND_COLOR = "backgroundColor";
     private static final String KEY_TEXT_COLOR = "textColor";
+    private static final String KEY_LOCK_SCREEN_GOALS = "lockScreenGoals";
     
     private static final int REQUEST_CODE_OVERLAY_PERMISSION = 100;
     private MethodChannel.Result pendingResult;
     private String pendingMethodCall;
 
+    // 백업 작업은 순서대로 하나씩 백그라운드에서 실행
+    private final ExecutorService backupExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    @Nullable
+    private EventChannel.EventSink backupProgressSink;
+
+    // 실행 중인 LockScreenService에 대한 바인더 (서비스가 없으면 null)
+    @Nullable
+    private LockScreenService.LockScreenBinder lockScreenBinder;
+
+    private final ServiceConnection lockScreenConnection = new ServiceConnection() {
+        @Override
+        public void onServiceConnected(ComponentName name, IBinder service) {
+            lockScreenBinder = (LockScreenService.LockScreenBinder) service;
+            GoalLog.d(TAG, "잠금화면 서비스에 연결되었습니다.");
+        }
+
+        @Override
+        public void onServiceDisconnected(ComponentName name) {
+            lockScreenBinder = null;
+            GoalLog.d(TAG, "잠금화면 서비스와 연결이 끊어졌습니다.");
+        }
+
+        @Override
+        public void onBindingDied(ComponentName name) {
+            // 서비스 패키지가 교체되는 등 연결을 다시 맺어야 하는 경우
+            lockScreenBinder = null;
+            GoalLog.w(TAG, "잠금화면 서비스 바인딩이 끊어졌습니다. 다시 바인딩합니다.");
+            unbindService(this);
+            bindLockScreenService();
+        }
+    };
+
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        GoalLog.init(this);
+        
+        bindLockScreenService();
+    }
+
+    // 서비스를 생성하지 않고 바인딩만 해둠 - 서비스가 시작되면 자동으로 연결됨
+    private void bindLockScreenService() {
+        bindService(new Intent(this, LockScreenService.class), lockScreenConnection, 0);
+    }
+
+    // 실행 중인 서비스의 바인더 (없거나 이미 종료된 서비스의 바인더면 null)
+    // 플래그 0으로 바인딩하므로 stopService 등으로 서비스가 종료되어도 연결 끊김이 오지 않을 수 있음
+    @Nullable
+    private LockScreenService.LockScreenBinder runningBinder() {
+        if (lockScreenBinder != null && !lockScreenBinder.isRunning()) {
+            lockScreenBinder = null;
+        }
+        return lockScreenBinder;
+    }
+
+    @Override
+    protected void onDestroy() {
+        unbindService(lockScreenConnection);
+        lockScreenBinder = null;
+        backupExecutor.shutdown();
+        super.onDestroy();
     }
 
     @Override
@@ -62,6 +139,10 @@ public class MainActivity extends FlutterActivity {
                             String text = call.argument("text");
                             setGoalText(text, result);
                             break;
+                        case "setLockScreenGoals":
+                            List<Map<String, Object>> goals = call.argument("goals");
+                            setLockScreenGoals(goals, result);
+                            break;
                         case "setBackgroundColor":
                             String bgColor = call.argument("color");
                             setBackgroundColor(bgColor, result);
@@ -70,6 +151,28 @@ public class MainActivity extends FlutterActivity {
                             String textColor = call.argument("color");
                             setTextColor(textColor, result);
                             break;
+                        case "getLockScreenStats":
+                            getLockScreenStats(result);
+                            break;
+                        case "showLockScreenNow":
+                            showLockScreenNow(result);
+                            break;
+                        case "dumpLogs":
+                            result.success(GoalLog.dump());
+                            break;
+                        case "setLogLevel":
+                            Number level = call.argument("level");
+                            if (level == null) {
+                                result.error("INVALID_ARGUMENT", "로그 레벨이 null입니다", null);
+                            } else {
+                                GoalLog.setBufferLevel(level.intValue());
+                                result.success(true);
+                            }
+                            break;
+                        case "setLaunchStrategy":
+                            String strategy = call.argument("strategy");
+                            setLaunchStrategy(strategy, result);
+                            break;
                         case "checkPermissions":
                             checkPermissions(result);
                             break;
@@ -84,6 +187,72 @@ public class MainActivity extends FlutterActivity {
                     }
                 }
             );
+        
+        // 백업 Method Channel 설정
+        new MethodChannel(flutterEngine.getDartExecutor().getBinaryMessenger(), BACKUP_CHANNEL)
+            .setMethodCallHandler(
+                (call, result) -> {
+                    switch (call.method) {
+                        case "exportData":
+                            runBackup(GoalBackupManager.OPERATION_EXPORT, call.argument("path"), result);
+                            break;
+                        case "importData":
+                            runBackup(GoalBackupManager.OPERATION_IMPORT, call.argument("path"), result);
+                            break;
+                        default:
+                            result.notImplemented();
+                            break;
+                    }
+                }
+            );
+        
+        // 백업 진행 상황 Event Channel 설정
+        new EventChannel(flutterEngine.getDartExecutor().getBinaryMessenger(), BACKUP_PROGRESS_CHANNEL)
+            .setStreamHandler(new EventChannel.StreamHandler() {
+                @Override
+                public void onListen(Object arguments, EventChannel.EventSink events) {
+                    backupProgressSink = events;
+                }
+                
+                @Override
+                public void onCancel(Object arguments) {
+                    backupProgressSink = null;
+                }
+            });
+    }
+    
+    // 백업 내보내기/가져오기를 백그라운드에서 실행하고 결과를 메인 스레드로 전달
+    private void runBackup(String operation, @Nullable String path, MethodChannel.Result result) {
+        File file = path != null ? new File(path) : new File(getFilesDir(), DEFAULT_BACKUP_FILE);
+        if (GoalBackupManager.OPERATION_IMPORT.equals(operation) && !file.exists()) {
+            result.error("FILE_NOT_FOUND", "백업 파일이 없습니다: " + file, null);
+            return;
+        }
+        
+        GoalBackupManager manager = new GoalBackupManager(this);
+        GoalBackupManager.ProgressListener listener = (op, processed, fraction) -> {
+            Map<String, Object> event = new HashMap<>();
+            event.put("operation", op);
+            event.put("processed", processed);
+            event.put("progress", fraction);
+            mainHandler.post(() -> {
+                if (backupProgressSink != null) {
+                    backupProgressSink.success(event);
+                }
+            });
+        };
+        
+        backupExecutor.execute(() -> {
+            try {
+                Map<String, Object> summary = GoalBackupManager.OPERATION_EXPORT.equals(operation)
+                        ? manager.exportData(file, listener)
+                        : manager.importData(file, listener);
+                mainHandler.post(() -> result.success(summary));
+            } catch (Exception e) {
+                GoalLog.e(TAG, "백업 작업 실패({}): {}", operation, e.getMessage());
+                mainHandler.post(() -> result.error("BACKUP_FAILED", e.getMessage(), null));
+            }
+        });
     }
     
     // 잠금화면 서비스 시작
@@ -95,17 +264,14 @@ public class MainActivity extends FlutterActivity {
             return;
         }
         
-        if (isServiceRunning(LockScreenService.class)) {
-            Log.d(TAG, "서비스가 이미 실행 중입니다.");
+        // 이미 실행 중인 서비스에 다시 start를 보내도 onStartCommand만 호출되므로 바인더로만 판단
+        if (runningBinder() != null) {
+            GoalLog.d(TAG, "서비스가 이미 실행 중입니다.");
             result.success(true);
             return;
         }
         
-        // 설정 저장
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        prefs.edit().putBoolean(KEY_SERVICE_ENABLED, true).apply();
-        
-        // 서비스 시작
+        // 서비스 시작 (활성화 상태는 서비스의 onCreate에서 기록)
         Intent intent = new Intent(this, LockScreenService.class);
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
             startForegroundService(intent);
@@ -113,28 +279,25 @@ public class MainActivity extends FlutterActivity {
             startService(intent);
         }
         
-        Log.d(TAG, "잠금화면 서비스를 시작했습니다.");
+        GoalLog.d(TAG, "잠금화면 서비스를 시작했습니다.");
         result.success(true);
     }
     
     // 잠금화면 서비스 중지
     private void stopLockScreenService(MethodChannel.Result result) {
-        // 설정 저장
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        prefs.edit().putBoolean(KEY_SERVICE_ENABLED, false).apply();
-        
-        // 서비스 중지
+        // 서비스 중지 (비활성화 상태는 서비스의 onDestroy에서 기록)
         Intent intent = new Intent(this, LockScreenService.class);
         stopService(intent);
+        lockScreenBinder = null;
         
-        Log.d(TAG, "잠금화면 서비스를 중지했습니다.");
+        GoalLog.d(TAG, "잠금화면 서비스를 중지했습니다.");
         result.success(true);
     }
     
     // 서비스 상태 확인
     private void checkServiceStatus(MethodChannel.Result result) {
-        boolean isRunning = isServiceRunning(LockScreenService.class);
-        Log.d(TAG, "서비스 실행 상태: " + isRunning);
+        boolean isRunning = isServiceRunning();
+        GoalLog.d(TAG, "서비스 실행 상태: {}", isRunning);
         result.success(isRunning);
     }
     
@@ -145,10 +308,53 @@ public class MainActivity extends FlutterActivity {
             return;
         }
         
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        prefs.edit().putString(KEY_GOAL_TEXT, text).apply();
+        LockScreenService.LockScreenBinder binder = runningBinder();
+        if (binder != null) {
+            // 서비스가 저장까지 처리함
+            binder.updateGoalText(text);
+        } else {
+            SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+            prefs.edit().putString(KEY_GOAL_TEXT, text).apply();
+            DirectBootStore.sync(this);
+        }
+        
+        GoalLog.d(TAG, "목표 텍스트 설정: {}자", text.length());
+        result.success(true);
+    }
+    
+    // 잠금화면에서 넘겨 볼 목표 목록 설정 (title, deadline)
+    private void setLockScreenGoals(@Nullable List<Map<String, Object>> goals, MethodChannel.Result result) {
+        if (goals == null) {
+            result.error("INVALID_ARGUMENT", "목표 목록이 null입니다", null);
+            return;
+        }
+        
+        String goalsJson;
+        try {
+            JSONArray array = new JSONArray();
+            for (Map<String, Object> goal : goals) {
+                Object deadline = goal.get("deadline");
+                JSONObject item = new JSONObject();
+                item.put("title", goal.get("title"));
+                item.put("deadline", deadline instanceof Number ? ((Number) deadline).longValue() : JSONObject.NULL);
+                array.put(item);
+            }
+            goalsJson = array.toString();
+        } catch (JSONException e) {
+            result.error("INVALID_ARGUMENT", "목표 목록 변환 실패: " + e.getMessage(), null);
+            return;
+        }
         
-        Log.d(TAG, "목표 텍스트 설정: " + text);
+        LockScreenService.LockScreenBinder binder = runningBinder();
+        if (binder != null) {
+            binder.updateLockScreenGoals(goalsJson);
+        } else {
+            SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+            prefs.edit().putString(KEY_LOCK_SCREEN_GOALS, goalsJson).apply();
+            DirectBootStore.sync(this);
+        }
+        
+        GoalLog.d(TAG, "잠금화면 목표 목록 설정: {}개", goals.size());
         result.success(true);
     }
     
@@ -159,10 +365,16 @@ public class MainActivity extends FlutterActivity {
             return;
         }
         
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        prefs.edit().putString(KEY_BACKGROUND_COLOR, hexColor).apply();
+        LockScreenService.LockScreenBinder binder = runningBinder();
+        if (binder != null) {
+            binder.updateBackgroundColor(hexColor);
+        } else {
+            SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+            prefs.edit().putString(KEY_BACKGROUND_COLOR, hexColor).apply();
+            DirectBootStore.sync(this);
+        }
         
-        Log.d(TAG, "배경색 설정: " + hexColor);
+        GoalLog.d(TAG, "배경색 설정: {}", hexColor);
         result.success(true);
     }
     
@@ -173,17 +385,58 @@ public class MainActivity extends FlutterActivity {
             return;
         }
         
-        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        prefs.edit().putString(KEY_TEXT_COLOR, hexColor).apply();
+        LockScreenService.LockScreenBinder binder = runningBinder();
+        if (binder != null) {
+            binder.updateTextColor(hexColor);
+        } else {
+            SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+            prefs.edit().putString(KEY_TEXT_COLOR, hexColor).apply();
+            DirectBootStore.sync(this);
+        }
+        
+        GoalLog.d(TAG, "텍스트 색상 설정: {}", hexColor);
+        result.success(true);
+    }
+    
+    // 서비스 통계 조회
+    private void getLockScreenStats(MethodChannel.Result result) {
+        LockScreenService.LockScreenBinder binder = runningBinder();
+        if (binder == null) {
+            result.error("SERVICE_NOT_RUNNING", "잠금화면 서비스가 실행 중이 아닙니다", null);
+            return;
+        }
+        
+        result.success(binder.getStats());
+    }
+    
+    // 잠금화면 즉시 표시
+    private void showLockScreenNow(MethodChannel.Result result) {
+        LockScreenService.LockScreenBinder binder = runningBinder();
+        if (binder == null) {
+            result.error("SERVICE_NOT_RUNNING", "잠금화면 서비스가 실행 중이 아닙니다", null);
+            return;
+        }
+        
+        binder.showNow();
+        result.success(true);
+    }
+    
+    // 잠금화면 실행 전략 고정 (null이면 자동 선택)
+    private void setLaunchStrategy(@Nullable String strategy, MethodChannel.Result result) {
+        LockScreenService.LockScreenBinder binder = runningBinder();
+        if (binder == null) {
+            result.error("SERVICE_NOT_RUNNING", "잠금화면 서비스가 실행 중이 아닙니다", null);
+            return;
+        }
         
-        Log.d(TAG, "텍스트 색상 설정: " + hexColor);
+        binder.setLaunchStrategy(strategy);
         result.success(true);
     }
     
     // 권한 확인
     private void checkPermissions(MethodChannel.Result result) {
         boolean hasOverlayPermission = Settings.canDrawOverlays(this);
-        Log.d(TAG, "오버레이 권한 상태: " + hasOverlayPermission);
+        GoalLog.d(TAG, "오버레이 권한 상태: {}", hasOverlayPermission);
         result.success(hasOverlayPermission);
     }
     
@@ -195,23 +448,21 @@ public class MainActivity extends FlutterActivity {
     }
     
     // 서비스 실행 상태 확인
-    private boolean isServiceRunning(Class<?> serviceClass) {
-        ActivityManager manager = (ActivityManager) getSystemService(Context.ACTIVITY_SERVICE);
-        if (manager != null) {
-            for (ActivityManager.RunningServiceInfo service : manager.getRunningServices(Integer.MAX_VALUE)) {
-                if (serviceClass.getName().equals(service.service.getClassName())) {
-                    return true;
-                }
-            }
+    private boolean isServiceRunning() {
+        if (runningBinder() != null) {
+            return true;
         }
-        return false;
+        
+        // 아직 연결되지 않았거나 연결된 서비스가 종료된 경우 서비스가 onCreate/onDestroy에서 기록하는 상태값 사용
+        SharedPreferences prefs = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
+        return prefs.getBoolean(KEY_SERVICE_ENABLED, false);
     }
     
     @Override
     protected void onActivityResult(int requestCode, int resultCode, @Nullable Intent data) {
         if (requestCode == REQUEST_CODE_OVERLAY_PERMISSION) {
             if (Settings.canDrawOverlays(this)) {
-                Log.d(TAG, "오버레이 권한 획득 성공");
+                GoalLog.d(TAG, "오버레이 권한 획득 성공");
                 
                 if (pendingResult != null) {
                     if ("requestPermissions".equals(pendingMethodCall)) {
@@ -223,7 +474,7 @@ public class MainActivity extends FlutterActivity {
                     pendingMethodCall = null;
                 }
             } else {
-                Log.d(TAG, "오버레이 권한 획득 실패");
+                GoalLog.d(TAG, "오버레이 권한 획득 실패");
                 if (pendingResult != null) {
                     pendingResult.success(false);
                     pendingResult = null;
@@ -9,6 +9,7 @@ import android.view.View;
  * 스와이프 제스처 감지를 위한 터치 리스너
  */
 public class OnSwipeTouchListener implements View.OnTouchListener {
+    private static final String TAG = "OnSwipeTouchListener";
 
     private final GestureDetector gestureDetector;
 
@@ -57,7 +58,7 @@ public class OnSwipeTouchListener implements View.OnTouchListener {
                     }
                 }
             } catch (Exception exception) {
-                exception.printStackTrace();
+                GoalLog.e(TAG, "스와이프 처리 오류", exception);
             }
             return result;
         }
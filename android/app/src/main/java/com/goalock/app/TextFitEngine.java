@@ -0,0 +1,354 @@
+package com.goalock.app;
+
+import android.graphics.Typeface;
+import android.os.Build;
+import android.os.SystemClock;
+import android.text.Layout;
+import android.text.PrecomputedText;
+import android.text.StaticLayout;
+import android.text.TextDirectionHeuristic;
+import android.text.TextDirectionHeuristics;
+import android.text.TextPaint;
+import android.util.LruCache;
+import android.util.TypedValue;
+import android.widget.TextView;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 목표 텍스트가 주어진 영역에 들어가는 가장 큰 글자 크기를 찾아 캐시하는 클래스
+ *
+ * (텍스트, 너비, 높이, 글꼴 배율, 글꼴) 조합마다 글자 크기를 이진 탐색하고,
+ * 결과 크기와 그 크기로 측정한 텍스트(API 28 이상은 PrecomputedText)를 크기가 제한된 LRU에 보관한다.
+ * 측정은 백그라운드 스레드에서 미리 해 두므로 같은 목표를 다시 표시할 때는 측정 없이 결과만 적용한다.
+ * fit()은 어느 스레드에서나 호출할 수 있고, specFor()와 apply()는 메인 스레드에서 호출해야 한다.
+ */
+public final class TextFitEngine {
+    private static final String TAG = "TextFitEngine";
+    private static final int CACHE_SIZE = 32;
+    private static final float MIN_TEXT_SIZE_SP = 14f;
+    private static final float MAX_TEXT_SIZE_SP = 48f;
+
+    private static final TextFitEngine INSTANCE = new TextFitEngine();
+
+    /**
+     * 측정 조건 - 페이지 뷰의 글꼴 설정과 텍스트가 들어갈 영역 크기
+     */
+    public static final class Spec {
+        final TextPaint paint;
+        final int width;
+        final int height;
+        final float fontScale;
+        @Nullable
+        final Typeface typeface;
+        final int minSizePx;
+        final int maxSizePx;
+        final int breakStrategy;
+        final int hyphenationFrequency;
+        final float lineSpacingMultiplier;
+        final float lineSpacingExtra;
+        final boolean includeFontPadding;
+        final TextDirectionHeuristic textDirection;
+
+        private Spec(TextView view, int width, int height) {
+            this.paint = new TextPaint(view.getPaint());
+            this.width = width;
+            this.height = height;
+            this.fontScale = view.getResources().getConfiguration().fontScale;
+            this.typeface = view.getTypeface();
+            this.minSizePx = (int) TypedValue.applyDimension(
+                    TypedValue.COMPLEX_UNIT_SP, MIN_TEXT_SIZE_SP, view.getResources().getDisplayMetrics());
+            this.maxSizePx = (int) TypedValue.applyDimension(
+                    TypedValue.COMPLEX_UNIT_SP, MAX_TEXT_SIZE_SP, view.getResources().getDisplayMetrics());
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+                this.breakStrategy = view.getBreakStrategy();
+                this.hyphenationFrequency = view.getHyphenationFrequency();
+            } else {
+                this.breakStrategy = 0;
+                this.hyphenationFrequency = 0;
+            }
+            this.lineSpacingMultiplier = view.getLineSpacingMultiplier();
+            this.lineSpacingExtra = view.getLineSpacingExtra();
+            this.includeFontPadding = view.getIncludeFontPadding();
+            this.textDirection = Build.VERSION.SDK_INT >= Build.VERSION_CODES.P
+                    ? view.getTextMetricsParams().getTextDirection()
+                    : TextDirectionHeuristics.FIRSTSTRONG_LTR;
+        }
+
+        public boolean isValid() {
+            return width > 0 && height > 0;
+        }
+
+        /**
+         * 캐시 키에 들어가는 조건이 모두 같은지 (같으면 측정 결과를 그대로 쓸 수 있음)
+         */
+        public boolean hasSameKey(Spec other) {
+            return width == other.width
+                    && height == other.height
+                    && Float.compare(fontScale, other.fontScale) == 0
+                    && Objects.equals(typeface, other.typeface);
+        }
+    }
+
+    /**
+     * 측정 결과 - 글자 크기(px)와 그 크기로 측정된 텍스트
+     */
+    public static final class Fit {
+        public final float textSizePx;
+        public final CharSequence text;
+
+        Fit(float textSizePx, CharSequence text) {
+            this.textSizePx = textSizePx;
+            this.text = text;
+        }
+    }
+
+    // 캐시 키 - 텍스트와 측정 조건 중 결과에 영향을 주는 값
+    private static final class Key {
+        final String text;
+        final int width;
+        final int height;
+        final float fontScale;
+        @Nullable
+        final Typeface typeface;
+
+        Key(String text, Spec spec) {
+            this.text = text;
+            this.width = spec.width;
+            this.height = spec.height;
+            this.fontScale = spec.fontScale;
+            this.typeface = spec.typeface;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return width == other.width
+                    && height == other.height
+                    && Float.compare(fontScale, other.fontScale) == 0
+                    && text.equals(other.text)
+                    && Objects.equals(typeface, other.typeface);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = text.hashCode();
+            result = 31 * result + width;
+            result = 31 * result + height;
+            result = 31 * result + Float.floatToIntBits(fontScale);
+            result = 31 * result + (typeface != null ? typeface.hashCode() : 0);
+            return result;
+        }
+    }
+
+    private final LruCache<Key, Fit> cache = new LruCache<>(CACHE_SIZE);
+
+    // 마지막으로 잠금화면 페이지에서 잰 측정 조건 - 화면이 꺼져 있는 동안 미리 측정할 때 사용
+    @Nullable
+    private volatile Spec lastSpec;
+
+    // 통계
+    private int hitCount = 0;
+    private int fitCount = 0;
+    private long lastFitNanos = 0L;
+    private long totalFitNanos = 0L;
+
+    private TextFitEngine() {
+    }
+
+    public static TextFitEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 페이지 뷰와 텍스트 영역 크기로 측정 조건 생성 (다음 미리 측정을 위해 기억해 둠)
+     */
+    public Spec specFor(TextView view, int width, int height) {
+        Spec spec = new Spec(view, width, height);
+        if (spec.isValid()) {
+            lastSpec = spec;
+        }
+        return spec;
+    }
+
+    @Nullable
+    public Spec getLastSpec() {
+        return lastSpec;
+    }
+
+    /**
+     * 캐시된 결과 (없으면 null, 측정하지 않음)
+     */
+    @Nullable
+    public Fit getCached(String text, Spec spec) {
+        Fit fit = cache.get(new Key(text, spec));
+        if (fit != null) {
+            synchronized (this) {
+                hitCount++;
+            }
+        }
+        return fit;
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 측정하여 캐시에 넣은 뒤 반환
+     */
+    public Fit fit(String text, Spec spec) {
+        Key key = new Key(text, spec);
+        Fit fit = cache.get(key);
+        if (fit != null) {
+            synchronized (this) {
+                hitCount++;
+            }
+            return fit;
+        }
+
+        long startNanos = SystemClock.elapsedRealtimeNanos();
+        TextPaint paint = new TextPaint(spec.paint);
+        int size = findLargestSize(text, paint, spec);
+        paint.setTextSize(size);
+        fit = new Fit(size, measure(text, paint, spec));
+        cache.put(key, fit);
+
+        long elapsed = SystemClock.elapsedRealtimeNanos() - startNanos;
+        synchronized (this) {
+            fitCount++;
+            lastFitNanos = elapsed;
+            totalFitNanos += elapsed;
+        }
+        GoalLog.d(TAG, "글자 크기 측정: {}us", elapsed / 1000);
+        return fit;
+    }
+
+    /**
+     * 마지막 측정 조건으로 start 위치의 목표와 좌우 이웃 목표를 미리 측정 (백그라운드 스레드)
+     */
+    public void prefetch(String[] texts, int start) {
+        Spec spec = lastSpec;
+        if (spec == null || texts.length == 0) {
+            return;
+        }
+        int current = Math.floorMod(start, texts.length);
+        fit(texts[current], spec);
+        if (texts.length > 1) {
+            fit(texts[Math.floorMod(current + 1, texts.length)], spec);
+            fit(texts[Math.floorMod(current - 1, texts.length)], spec);
+        }
+    }
+
+    /**
+     * 측정 결과를 텍스트뷰에 적용 (메인 스레드)
+     */
+    public static void apply(TextView view, Fit fit, String text) {
+        view.setTextSize(TypedValue.COMPLEX_UNIT_PX, fit.textSizePx);
+        try {
+            view.setText(fit.text);
+        } catch (IllegalArgumentException e) {
+            // 측정 이후 뷰의 글꼴 설정이 바뀌어 PrecomputedText 파라미터가 맞지 않는 경우
+            view.setText(text);
+        }
+    }
+
+    // 영역에 들어가는 가장 큰 글자 크기(px)를 이진 탐색 (최소 크기도 넘치면 최소 크기)
+    private int findLargestSize(String text, TextPaint paint, Spec spec) {
+        int low = spec.minSizePx;
+        int high = Math.max(spec.minSizePx, spec.maxSizePx);
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            paint.setTextSize(mid);
+            if (fits(text, paint, spec)) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private boolean fits(String text, TextPaint paint, Spec spec) {
+        // 단어 중간에서 줄이 바뀌지 않도록 가장 긴 단어가 한 줄에 들어가야 함
+        if (widestWord(text, paint) > spec.width) {
+            return false;
+        }
+        return buildLayout(text, paint, spec).getHeight() <= spec.height;
+    }
+
+    private static float widestWord(String text, TextPaint paint) {
+        float widest = 0f;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean boundary = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (boundary) {
+                if (start >= 0) {
+                    widest = Math.max(widest, paint.measureText(text, start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return widest;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static StaticLayout buildLayout(String text, TextPaint paint, Spec spec) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+            return StaticLayout.Builder.obtain(text, 0, text.length(), paint, spec.width)
+                    .setAlignment(Layout.Alignment.ALIGN_CENTER)
+                    .setLineSpacing(spec.lineSpacingExtra, spec.lineSpacingMultiplier)
+                    .setIncludePad(spec.includeFontPadding)
+                    .setBreakStrategy(spec.breakStrategy)
+                    .setHyphenationFrequency(spec.hyphenationFrequency)
+                    .setTextDirection(spec.textDirection)
+                    .build();
+        }
+        return new StaticLayout(text, paint, spec.width, Layout.Alignment.ALIGN_CENTER,
+                spec.lineSpacingMultiplier, spec.lineSpacingExtra, spec.includeFontPadding);
+    }
+
+    // 텍스트뷰가 다시 측정하지 않도록 확정된 크기로 텍스트 레이아웃을 미리 계산
+    private static CharSequence measure(String text, TextPaint paint, Spec spec) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.P) {
+            return text;
+        }
+        PrecomputedText.Params params = new PrecomputedText.Params.Builder(paint)
+                .setBreakStrategy(spec.breakStrategy)
+                .setHyphenationFrequency(spec.hyphenationFrequency)
+                .setTextDirection(spec.textDirection)
+                .build();
+        return PrecomputedText.create(text, params);
+    }
+
+    /**
+     * 측정 캐시 통계를 stats에 추가 (밀리초 단위)
+     */
+    public synchronized void putStats(Map<String, Object> stats) {
+        stats.put("textFitHitCount", hitCount);
+        stats.put("textFitCount", fitCount);
+        stats.put("lastTextFitMs", lastFitNanos / 1e6);
+        stats.put("avgTextFitMs", fitCount > 0 ? totalFitNanos / 1e6 / fitCount : 0.0);
+    }
+
+    /**
+     * 캐시, 마지막 측정 조건, 통계를 비움 (테스트 사이 초기화)
+     */
+    @VisibleForTesting
+    synchronized void reset() {
+        cache.evictAll();
+        lastSpec = null;
+        hitCount = 0;
+        fitCount = 0;
+        lastFitNanos = 0L;
+        totalFitNanos = 0L;
+    }
+}
@@ -0,0 +1,181 @@
+package com.goalock.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목표 백업 내보내기/가져오기 테스트
+ *
+ * shared_preferences 플러그인과 같은 형식으로 FlutterSharedPreferences에 목록을 저장해 두고,
+ * 내보낸 파일을 다시 가져왔을 때 같은 목록이 되는지와 잘못된 파일이 기존 데이터를 건드리지 않는지 확인한다.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class GoalBackupManagerTest {
+    private static final String FLUTTER_PREFS_NAME = "FlutterSharedPreferences";
+    private static final String KEY_GOALS = "flutter.goals";
+    private static final String KEY_ARCHIVED_GOALS = "flutter.archivedGoals";
+    private static final String JSON_LIST_PREFIX = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBhIGxpc3Qu!";
+
+    private SharedPreferences prefs;
+    private GoalBackupManager backupManager;
+    private File backupFile;
+
+    @Before
+    public void setUp() {
+        Application application = ApplicationProvider.getApplicationContext();
+        prefs = application.getSharedPreferences(FLUTTER_PREFS_NAME, Context.MODE_PRIVATE);
+        backupManager = new GoalBackupManager(application);
+        backupFile = new File(application.getCacheDir(), "backup/goalock_backup.json.gz");
+    }
+
+    @Test
+    public void exportThenImport_restoresGoalsAndArchive() throws Exception {
+        List<String> goals = goals("매일 30분 운동", "책 한 권 읽기", "따옴표 \"와 \\ 포함");
+        List<String> archived = goals("지난 목표");
+        store(goals, archived);
+
+        Map<String, Object> exported = backupManager.exportData(backupFile, null);
+        assertEquals(3, exported.get("goals"));
+        assertEquals(1, exported.get("archivedGoals"));
+
+        prefs.edit().clear().commit();
+
+        Map<String, Object> imported = backupManager.importData(backupFile, null);
+        assertEquals(3, imported.get("goals"));
+        assertEquals(1, imported.get("archivedGoals"));
+        assertEquals(exported.get("checksum"), imported.get("checksum"));
+        assertEquals(goals, storedList(KEY_GOALS));
+        assertEquals(archived, storedList(KEY_ARCHIVED_GOALS));
+    }
+
+    @Test
+    public void import_rejectsChangedItemAndKeepsExistingData() throws Exception {
+        store(goals("매일 30분 운동", "책 한 권 읽기"), goals("지난 목표"));
+        backupManager.exportData(backupFile, null);
+
+        // 체크섬은 그대로 두고 항목 하나만 바꿈
+        String json = readGzip(backupFile);
+        String changed = json.replace("책 한 권 읽기", "책 두 권 읽기");
+        assertNotEquals(json, changed);
+        writeGzip(backupFile, changed);
+
+        store(goals("현재 목표"), goals());
+        Map<String, ?> before = prefs.getAll();
+
+        IOException error = assertThrows(IOException.class,
+                () -> backupManager.importData(backupFile, null));
+        assertEquals("백업 파일 체크섬이 일치하지 않습니다", error.getMessage());
+        assertEquals(before, prefs.getAll());
+    }
+
+    @Test
+    public void import_rejectsFileThatIsNotGoalockBackup() throws Exception {
+        store(goals("현재 목표"), goals());
+        Map<String, ?> before = prefs.getAll();
+
+        // 다른 앱의 gzip JSON
+        writeGzip(backupFile, "{\"format\":\"other-app\",\"version\":1,\"goals\":[],\"archivedGoals\":[]}");
+        IOException error = assertThrows(IOException.class,
+                () -> backupManager.importData(backupFile, null));
+        assertEquals("GoalLock 백업 파일이 아닙니다", error.getMessage());
+
+        // format 항목이 없는 파일
+        writeGzip(backupFile, "{\"goals\":[],\"archivedGoals\":[],\"checksum\":\"0\"}");
+        error = assertThrows(IOException.class, () -> backupManager.importData(backupFile, null));
+        assertEquals("GoalLock 백업 파일이 아닙니다", error.getMessage());
+
+        // 압축되지 않은 파일
+        try (OutputStream out = new FileOutputStream(backupFile)) {
+            out.write("not a backup".getBytes(StandardCharsets.UTF_8));
+        }
+        assertThrows(IOException.class, () -> backupManager.importData(backupFile, null));
+
+        assertEquals(before, prefs.getAll());
+    }
+
+    // Dart 쪽 Goal.toJson() 형태의 목표 JSON 문자열 목록
+    private static List<String> goals(String... titles) throws JSONException {
+        List<String> goals = new ArrayList<>();
+        for (int i = 0; i < titles.length; i++) {
+            goals.add(new JSONObject()
+                    .put("id", String.valueOf(i))
+                    .put("title", titles[i])
+                    .put("deadline", JSONObject.NULL)
+                    .toString());
+        }
+        return goals;
+    }
+
+    // shared_preferences 플러그인과 같은 형식으로 저장
+    private void store(List<String> goals, List<String> archived) {
+        prefs.edit()
+                .putString(KEY_GOALS, JSON_LIST_PREFIX + new JSONArray(goals))
+                .putString(KEY_ARCHIVED_GOALS, JSON_LIST_PREFIX + new JSONArray(archived))
+                .commit();
+    }
+
+    private List<String> storedList(String key) throws JSONException {
+        String stored = prefs.getString(key, null);
+        assertNotNull(stored);
+        assertTrue(stored.startsWith(JSON_LIST_PREFIX));
+        JSONArray array = new JSONArray(stored.substring(JSON_LIST_PREFIX.length()));
+        String[] items = new String[array.length()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = array.getString(i);
+        }
+        return Arrays.asList(items);
+    }
+
+    private static String readGzip(File file) throws IOException {
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void writeGzip(File file, String json) throws IOException {
+        file.getParentFile().mkdirs();
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
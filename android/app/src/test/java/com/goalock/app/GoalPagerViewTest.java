@@ -0,0 +1,145 @@
+package com.goalock.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import android.content.Intent;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.android.controller.ServiceController;
+import org.robolectric.annotation.Config;
+
+/**
+ * 잠금화면에서 목표를 좌우로 넘겨 보는 GoalPagerView 테스트
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class GoalPagerViewTest {
+    private Application application;
+    private ServiceController<LockScreenService> serviceController;
+    private LockScreenService.LockScreenBinder binder;
+
+    @Before
+    public void setUp() {
+        application = ApplicationProvider.getApplicationContext();
+        serviceController = Robolectric.buildService(LockScreenService.class).create();
+        binder = (LockScreenService.LockScreenBinder) serviceController.get().onBind(new Intent());
+        binder.setLaunchStrategy(LockScreenLauncher.Strategy.DIRECT_START.name());
+    }
+
+    @After
+    public void tearDown() {
+        serviceController.destroy();
+        LockScreenTestSupport.resetSingletons();
+    }
+
+    @Test
+    public void manyGoals_pageThroughFixedPoolOfViews() {
+        int goalCount = 500;
+        StringBuilder goals = new StringBuilder("[");
+        for (int i = 0; i < goalCount; i++) {
+            if (i > 0) {
+                goals.append(',');
+            }
+            goals.append("{\"title\":\"목표 ").append(i).append("\",\"deadline\":null}");
+        }
+        binder.updateLockScreenGoals(goals.append(']').toString());
+
+        ActivityController<LockScreenActivity> controller = LockScreenTestSupport.showLockScreen(application);
+        LockScreenActivity activity = controller.get();
+
+        GoalPagerView pager = LockScreenTestSupport.findPager(activity);
+        assertNotNull(pager);
+        assertEquals(goalCount, pager.getGoalCount());
+        int startIndex = pager.getCurrentIndex();
+
+        for (int i = 1; i <= 20; i++) {
+            LockScreenTestSupport.swipeLeft(activity);
+            LockScreenTestSupport.idleFor(500);
+            assertEquals((startIndex + i) % goalCount, pager.getCurrentIndex());
+            // 목표 수와 상관없이 페이지 뷰는 3개만 사용
+            assertEquals(3, pager.getChildCount());
+        }
+        assertFalse(activity.isFinishing());
+
+        LockScreenTestSupport.swipeUp(activity);
+        assertTrue(activity.isFinishing());
+        controller.pause().stop().destroy();
+
+        // 다음 화면 켜짐에는 마지막으로 본 목표의 다음 목표부터 표시
+        assertEquals((startIndex + 20) % goalCount + 1, LockScreenStager.getInstance().nextStartIndex());
+    }
+
+    @Test
+    public void pageIndicator_updatesAfterPageAnimationEnds() {
+        binder.updateLockScreenGoals("[{\"title\":\"첫 목표\",\"deadline\":null},"
+                + "{\"title\":\"둘째 목표\",\"deadline\":null}]");
+
+        ActivityController<LockScreenActivity> controller = LockScreenTestSupport.showLockScreen(application);
+        LockScreenActivity activity = controller.get();
+        LockScreenTestSupport.idleFor(500);
+        TextView indicator = findIndicator(activity.findViewById(android.R.id.content));
+        assertNotNull(indicator);
+        String before = indicator.getText().toString();
+
+        // 전환 애니메이션 중에는 위치 표시를 바꾸지 않아 레이아웃이 일어나지 않음
+        LockScreenTestSupport.swipeLeft(activity);
+        assertEquals(before, indicator.getText().toString());
+
+        LockScreenTestSupport.idleFor(500);
+        GoalPagerView pager = LockScreenTestSupport.findPager(activity);
+        assertEquals((pager.getCurrentIndex() + 1) + " / 2", indicator.getText().toString());
+
+        LockScreenTestSupport.swipeUp(activity);
+        controller.pause().stop().destroy();
+    }
+
+    @Test
+    public void settingsGoalText_isKeptAsPageAlongsideGoals() {
+        binder.updateGoalText("하루를 소중하게 사용하세요");
+        binder.updateLockScreenGoals("[{\"title\":\"매일 30분 운동\",\"deadline\":null}]");
+
+        ActivityController<LockScreenActivity> controller = LockScreenTestSupport.showLockScreen(application);
+        GoalPagerView pager = LockScreenTestSupport.findPager(controller.get());
+        assertNotNull(pager);
+        // 설정 화면의 목표 텍스트도 잠금화면 목표와 함께 넘겨 볼 수 있음
+        assertEquals(2, pager.getGoalCount());
+
+        LockScreenTestSupport.swipeUp(controller.get());
+        controller.pause().stop().destroy();
+    }
+
+    // "1 / 2" 형식의 위치 표시 텍스트뷰 (페이저 안의 목표 텍스트는 제외)
+    private static TextView findIndicator(View view) {
+        if (view instanceof GoalPagerView) {
+            return null;
+        }
+        if (view instanceof TextView && ((TextView) view).getText().toString().matches("\\d+ / \\d+")) {
+            return (TextView) view;
+        }
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                TextView indicator = findIndicator(group.getChildAt(i));
+                if (indicator != null) {
+                    return indicator;
+                }
+            }
+        }
+        return null;
+    }
+}
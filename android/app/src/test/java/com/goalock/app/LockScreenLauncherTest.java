@@ -0,0 +1,117 @@
+package com.goalock.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Application;
+import android.app.NotificationManager;
+import android.content.Context;
+import android.content.Intent;
+import android.os.PowerManager;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowSettings;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 잠금화면 실행 전략을 고르고 결과를 기록하는 LockScreenLauncher 테스트
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class LockScreenLauncherTest {
+    private Application application;
+    private LockScreenLauncher launcher;
+
+    @Before
+    public void setUp() {
+        application = ApplicationProvider.getApplicationContext();
+        launcher = new LockScreenLauncher(application);
+    }
+
+    @After
+    public void tearDown() {
+        launcher.release();
+        LockScreenTestSupport.resetSingletons();
+    }
+
+    @Test
+    public void overlayStrategy_startsActivityOnlyAfterOverlayIsAttached() {
+        ShadowSettings.setCanDrawOverlays(true);
+        launcher.setPreferredStrategy(LockScreenLauncher.Strategy.OVERLAY.name());
+
+        launcher.launch();
+        // 오버레이 창을 추가한 직후에는 아직 액티비티를 시작하지 않음
+        assertNull(shadowOf(application).getNextStartedActivity());
+
+        LockScreenTestSupport.idleFor(100);
+        Intent started = shadowOf(application).getNextStartedActivity();
+        assertNotNull(started);
+        assertEquals(LockScreenActivity.class.getName(), started.getComponent().getClassName());
+        assertEquals(LockScreenLauncher.Strategy.OVERLAY.name(), stats().get("lastLaunchStrategy"));
+    }
+
+    @Test
+    public void lateDeliveryOfFirstStrategy_isCreditedToThatStrategy() {
+        // 직접 실행이 시간 초과되면 오버레이 전략으로 다시 시도하도록 알림 전략은 끔
+        shadowOf(application.getSystemService(NotificationManager.class)).setNotificationsEnabled(false);
+        ShadowSettings.setCanDrawOverlays(true);
+        launcher.setPreferredStrategy(LockScreenLauncher.Strategy.DIRECT_START.name());
+
+        launcher.launch();
+        Intent direct = shadowOf(application).getNextStartedActivity();
+        LockScreenTestSupport.idleFor(2100);
+        Intent overlay = shadowOf(application).getNextStartedActivity();
+        assertNotNull(overlay);
+        assertNotEquals(direct.getLongExtra(LockScreenLauncher.EXTRA_LAUNCH_ID, 0L),
+                overlay.getLongExtra(LockScreenLauncher.EXTRA_LAUNCH_ID, 0L));
+
+        // 대체 전략을 시도하는 중에 처음 띄운 액티비티가 늦게 표시됨
+        LockScreenLauncher.notifyDelivered(direct);
+        LockScreenLauncher.notifyDelivered(overlay);
+        LockScreenTestSupport.idleFor(2100);
+
+        assertEquals(1, strategyStat(LockScreenLauncher.Strategy.DIRECT_START, "attempts"));
+        assertEquals(1, strategyStat(LockScreenLauncher.Strategy.DIRECT_START, "successes"));
+        assertEquals(0, strategyStat(LockScreenLauncher.Strategy.OVERLAY, "attempts"));
+    }
+
+    @Test
+    public void timeoutWhileScreenOff_doesNotFallBackOrRecordFailure() {
+        launcher.setPreferredStrategy(LockScreenLauncher.Strategy.DIRECT_START.name());
+
+        launcher.launch();
+        assertNotNull(shadowOf(application).getNextStartedActivity());
+        shadowOf((PowerManager) application.getSystemService(Context.POWER_SERVICE)).setIsInteractive(false);
+        LockScreenTestSupport.idleFor(2100);
+
+        assertNull(shadowOf(application).getNextStartedActivity());
+        for (LockScreenLauncher.Strategy strategy : LockScreenLauncher.Strategy.values()) {
+            assertEquals(0, strategyStat(strategy, "attempts"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int strategyStat(LockScreenLauncher.Strategy strategy, String key) {
+        Map<String, Object> strategies = (Map<String, Object>) stats().get("launchStrategies");
+        Map<String, Object> entry = (Map<String, Object>) strategies.get(strategy.name());
+        return ((Number) entry.get(key)).intValue();
+    }
+
+    private Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        launcher.putStats(stats);
+        return stats;
+    }
+}
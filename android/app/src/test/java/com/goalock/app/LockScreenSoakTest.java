@@ -0,0 +1,235 @@
+package com.goalock.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Application;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Looper;
+import android.os.PowerManager;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.android.controller.ServiceController;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowApplication;
+import org.robolectric.shadows.ShadowGestureDetector;
+import org.robolectric.shadows.ShadowPowerManager;
+import org.robolectric.util.ReflectionHelpers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 화면 켜짐/꺼짐 사이클을 수천 번 반복하여 WakeLock, 리시버, 액티비티 누수를 검사하는 소크 테스트
+ *
+ * 사이클 수는 -Dgoalock.soak.cycles 로 조정할 수 있으며,
+ * 사이클당 할당 바이트 수가 -Dgoalock.soak.maxAllocatedBytesPerCycle 기준값을 넘으면 실패한다.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class LockScreenSoakTest {
+    private static final int DEFAULT_CYCLES = 2000;
+    private static final int WARM_UP_CYCLES = 50;
+    // 사이클당 할당 바이트 기준값 (Robolectric 자체 할당 포함, 측정값 약 9MB)
+    private static final long DEFAULT_MAX_ALLOCATED_BYTES_PER_CYCLE = 16L * 1024 * 1024;
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private Application application;
+    private PowerManager powerManager;
+    private ServiceController<LockScreenService> serviceController;
+    private LockScreenService.LockScreenBinder binder;
+
+    @Before
+    public void setUp() {
+        application = ApplicationProvider.getApplicationContext();
+        powerManager = (PowerManager) application.getSystemService(Context.POWER_SERVICE);
+        serviceController = Robolectric.buildService(LockScreenService.class).create();
+        binder = (LockScreenService.LockScreenBinder) serviceController.get().onBind(new Intent());
+
+        // 시작된 인텐트로 액티비티를 직접 만들므로 startActivity 경로로 고정
+        binder.setLaunchStrategy(LockScreenLauncher.Strategy.DIRECT_START.name());
+
+        // 카운트다운의 TIME_TICK 수신기 경로도 함께 검사
+        long deadline = System.currentTimeMillis() + 12 * DAY_MILLIS;
+        binder.updateLockScreenGoals("[{\"title\":\"매일 30분 운동\",\"deadline\":" + deadline + "}]");
+    }
+
+    @After
+    public void tearDown() {
+        if (serviceController != null) {
+            serviceController.destroy();
+        }
+        LockScreenTestSupport.resetSingletons();
+    }
+
+    @Test
+    public void screenCycles_doNotLeakWakeLocksReceiversOrActivities() {
+        int cycles = Integer.getInteger("goalock.soak.cycles", DEFAULT_CYCLES);
+        List<WeakReference<LockScreenActivity>> activities = new ArrayList<>();
+
+        assertReceiversRegisteredOnce();
+
+        for (int i = 0; i < WARM_UP_CYCLES; i++) {
+            runCycle(i, null);
+        }
+
+        int textFitsBefore = ((Number) binder.getStats().get("textFitCount")).intValue();
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < cycles; i++) {
+            runCycle(i, activities);
+
+            assertWakeLockReleased(i);
+            if (i % 100 == 0) {
+                assertReceiversRegisteredOnce();
+            }
+        }
+        long allocatedAfter = allocatedBytes();
+
+        assertReceiversRegisteredOnce();
+
+        Map<String, Object> stats = binder.getStats();
+        assertEquals(cycles + WARM_UP_CYCLES, ((Number) stats.get("launchCount")).intValue());
+        assertEquals(0, ((Number) stats.get("launchFailureCount")).intValue());
+        // 같은 목표를 다시 표시할 때는 글자 크기를 다시 측정하지 않음
+        assertEquals(textFitsBefore, ((Number) stats.get("textFitCount")).intValue());
+
+        int leaked = countReachable(activities);
+        assertEquals("액티비티 누수: " + leaked + "/" + cycles, 0, leaked);
+
+        if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+            long bytesPerCycle = (allocatedAfter - allocatedBefore) / cycles;
+            long maxBytesPerCycle = Long.getLong("goalock.soak.maxAllocatedBytesPerCycle",
+                    DEFAULT_MAX_ALLOCATED_BYTES_PER_CYCLE);
+            assertTrue("사이클당 할당량 " + bytesPerCycle + "B > 기준 " + maxBytesPerCycle + "B",
+                    bytesPerCycle <= maxBytesPerCycle);
+        }
+    }
+
+    @Test
+    public void destroy_unregistersAllReceiversAndReleasesWakeLock() {
+        shadowOf(powerManager).setIsInteractive(false);
+        sendAndIdle(Intent.ACTION_SCREEN_ON);
+        shadowOf(application).getNextStartedActivity();
+
+        serviceController.destroy();
+        serviceController = null;
+
+        assertEquals(0, countReceivers(LockScreenService.class, Intent.ACTION_SCREEN_ON));
+        assertEquals(0, countReceivers(LockScreenService.class, Intent.ACTION_SCREEN_OFF));
+        assertEquals(0, countReceivers(LockScreenService.class, Intent.ACTION_USER_PRESENT));
+        assertWakeLockReleased(-1);
+    }
+
+    // 한 사이클: 화면 꺼짐 -> 화면 켜짐 -> 액티비티 표시 -> 스와이프 -> 소멸 -> 언락
+    private void runCycle(int index, List<WeakReference<LockScreenActivity>> activities) {
+        ShadowPowerManager shadowPowerManager = shadowOf(powerManager);
+
+        shadowPowerManager.setIsInteractive(false);
+        sendAndIdle(Intent.ACTION_SCREEN_OFF);
+
+        // 절반은 화면이 꺼진 상태에서 켜짐 이벤트를 받아 WakeLock 경로를 거치도록 함
+        shadowPowerManager.setIsInteractive(index % 2 == 0);
+        sendAndIdle(Intent.ACTION_SCREEN_ON);
+        shadowPowerManager.setIsInteractive(true);
+
+        Intent started = shadowOf(application).getNextStartedActivity();
+        assertNotNull("사이클 " + index + "에서 잠금화면이 시작되지 않음", started);
+        assertEquals(LockScreenActivity.class.getName(), started.getComponent().getClassName());
+
+        ActivityController<LockScreenActivity> controller =
+                Robolectric.buildActivity(LockScreenActivity.class, started).setup();
+        LockScreenActivity activity = controller.get();
+        if (activities != null) {
+            activities.add(new WeakReference<>(activity));
+        }
+
+        assertEquals(1, countReceivers(LockScreenActivity.class, Intent.ACTION_TIME_TICK));
+
+        LockScreenTestSupport.swipeUp(activity);
+        assertTrue("사이클 " + index + "에서 스와이프로 종료되지 않음", activity.isFinishing());
+
+        controller.pause().stop().destroy();
+        assertEquals(0, countReceivers(LockScreenActivity.class, Intent.ACTION_TIME_TICK));
+        sendAndIdle(Intent.ACTION_USER_PRESENT);
+    }
+
+    private void sendAndIdle(String action) {
+        LockScreenTestSupport.sendAndIdle(application, action);
+    }
+
+    private void assertWakeLockReleased(int index) {
+        PowerManager.WakeLock wakeLock = ShadowPowerManager.getLatestWakeLock();
+        if (wakeLock != null) {
+            assertFalse("사이클 " + index + " 이후 WakeLock이 해제되지 않음", wakeLock.isHeld());
+        }
+    }
+
+    private void assertReceiversRegisteredOnce() {
+        assertEquals(1, countReceivers(LockScreenService.class, Intent.ACTION_SCREEN_ON));
+        assertEquals(1, countReceivers(LockScreenService.class, Intent.ACTION_SCREEN_OFF));
+        assertEquals(1, countReceivers(LockScreenService.class, Intent.ACTION_USER_PRESENT));
+    }
+
+    // owner 클래스 안에서 정의된 리시버 중 action을 수신하는 리시버 수
+    private int countReceivers(Class<?> owner, String action) {
+        int count = 0;
+        for (ShadowApplication.Wrapper wrapper : shadowOf(application).getRegisteredReceivers()) {
+            BroadcastReceiver receiver = wrapper.getBroadcastReceiver();
+            Class<?> enclosing = receiver.getClass().getEnclosingClass();
+            if ((receiver.getClass() == owner || enclosing == owner)
+                    && wrapper.getIntentFilter().hasAction(action)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int countReachable(List<WeakReference<LockScreenActivity>> activities) {
+        // Robolectric은 마지막으로 터치 이벤트를 받은 GestureDetector를 정적 필드에 보관하므로
+        // 마지막 액티비티가 (스와이프 리스너를 통해) 남지 않도록 비움
+        ReflectionHelpers.setStaticField(ShadowGestureDetector.class, "lastActiveGestureDetector", null);
+
+        int reachable = activities.size();
+        for (int attempt = 0; attempt < 10 && reachable > 0; attempt++) {
+            shadowOf(Looper.getMainLooper()).idle();
+            System.gc();
+            System.runFinalization();
+
+            reachable = 0;
+            for (WeakReference<LockScreenActivity> ref : activities) {
+                if (ref.get() != null) {
+                    reachable++;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    // 현재 스레드가 할당한 누적 바이트 수 (지원하지 않는 JVM이면 -1)
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
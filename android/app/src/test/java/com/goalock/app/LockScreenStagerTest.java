@@ -0,0 +1,100 @@
+package com.goalock.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Application;
+import android.content.Intent;
+import android.os.Looper;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.android.controller.ServiceController;
+import org.robolectric.annotation.Config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 화면이 꺼져 있는 동안 잠금화면을 미리 준비하는 LockScreenStager 테스트
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class LockScreenStagerTest {
+    private Application application;
+    private LockScreenStager stager;
+
+    @Before
+    public void setUp() {
+        application = ApplicationProvider.getApplicationContext();
+        stager = LockScreenStager.getInstance();
+        stager.start();
+    }
+
+    @After
+    public void tearDown() {
+        LockScreenTestSupport.resetSingletons();
+    }
+
+    @Test
+    public void takeBeforeStagingFinishes_discardsPendingStagedView() throws InterruptedException {
+        stager.stage(application);
+
+        // 준비가 끝나기 전에 화면이 켜져 액티비티가 직접 화면을 만든 경우
+        assertNull(stager.takeStagedView(application));
+
+        // 남은 준비 작업이 끝나도 이전 시작 인덱스로 만든 화면이 다음 표시에 쓰이지 않아야 함
+        for (int i = 0; i < 50; i++) {
+            Thread.sleep(20);
+            shadowOf(Looper.getMainLooper()).idle();
+        }
+        assertNull(stager.takeStagedView(application));
+    }
+
+    @Test
+    public void screenOffBeforeReveal_discardsStaleRevealStart() {
+        // 화면이 켜졌지만 잠금화면이 그려지기 전에 다시 꺼진 경우
+        stager.markRevealStart();
+        stager.stage(application);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        stager.markRevealed();
+        assertEquals(0, revealCount());
+    }
+
+    @Test
+    public void reusedActivity_recordsRevealOnNewIntent() {
+        ServiceController<LockScreenService> serviceController =
+                Robolectric.buildService(LockScreenService.class).create();
+        LockScreenService.LockScreenBinder binder =
+                (LockScreenService.LockScreenBinder) serviceController.get().onBind(new Intent());
+        binder.setLaunchStrategy(LockScreenLauncher.Strategy.DIRECT_START.name());
+
+        ActivityController<LockScreenActivity> controller = LockScreenTestSupport.showLockScreen(application);
+        assertEquals(1, revealCount());
+
+        // 잠금화면을 닫지 않은 채 화면을 껐다 켜면 기존 액티비티가 새 인텐트를 받음
+        controller.pause().stop();
+        LockScreenTestSupport.sendAndIdle(application, Intent.ACTION_SCREEN_OFF);
+        LockScreenTestSupport.sendAndIdle(application, Intent.ACTION_SCREEN_ON);
+        controller.newIntent(shadowOf(application).getNextStartedActivity()).restart().resume();
+        assertEquals(2, revealCount());
+
+        controller.pause().stop().destroy();
+        serviceController.destroy();
+    }
+
+    private int revealCount() {
+        Map<String, Object> stats = new HashMap<>();
+        stager.putStats(stats);
+        return ((Number) stats.get("revealCount")).intValue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.goalock.app;
+
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.robolectric.Robolectric;
+import org.robolectric.android.controller.ActivityController;
+
+import java.time.Duration;
+
+/**
+ * 잠금화면 테스트에서 함께 쓰는 도우미
+ *
+ * 테스트 간에 남는 싱글턴 상태를 초기화하고, 브로드캐스트 전송과 스와이프 입력을 흉내 낸다.
+ */
+final class LockScreenTestSupport {
+    private LockScreenTestSupport() {
+    }
+
+    /**
+     * 프로세스 안에서 테스트 사이에 공유되는 상태를 모두 초기화
+     */
+    static void resetSingletons() {
+        LockScreenLauncher.releaseActive();
+        LockScreenStager.getInstance().reset();
+        TextFitEngine.getInstance().reset();
+    }
+
+    static void sendAndIdle(Context context, String action) {
+        context.sendBroadcast(new Intent(action));
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    /**
+     * 화면 꺼짐/켜짐을 보내 서비스가 시작한 잠금화면 액티비티를 만들어 반환 (서비스가 실행 중이어야 함)
+     */
+    static ActivityController<LockScreenActivity> showLockScreen(Application application) {
+        sendAndIdle(application, Intent.ACTION_SCREEN_OFF);
+        sendAndIdle(application, Intent.ACTION_SCREEN_ON);
+        Intent started = shadowOf(application).getNextStartedActivity();
+        return Robolectric.buildActivity(LockScreenActivity.class, started).setup();
+    }
+
+    static void idleFor(long millis) {
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(millis));
+    }
+
+    static GoalPagerView findPager(View view) {
+        if (view instanceof GoalPagerView) {
+            return (GoalPagerView) view;
+        }
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                GoalPagerView pager = findPager(group.getChildAt(i));
+                if (pager != null) {
+                    return pager;
+                }
+            }
+        }
+        return null;
+    }
+
+    static GoalPagerView findPager(Activity activity) {
+        return findPager(activity.findViewById(android.R.id.content));
+    }
+
+    static void swipeUp(Activity activity) {
+        swipe(activity, 200f, 1200f, 200f, 300f);
+    }
+
+    // 왼쪽으로 스와이프 - 다음 목표로 이동
+    static void swipeLeft(Activity activity) {
+        swipe(activity, 900f, 1200f, 100f, 1200f);
+    }
+
+    static void swipe(Activity activity, float startX, float startY, float endX, float endY) {
+        ViewGroup content = activity.findViewById(android.R.id.content);
+        View root = content.getChildAt(0);
+
+        long downTime = SystemClock.uptimeMillis();
+        float dx = (endX - startX) / 3f;
+        float dy = (endY - startY) / 3f;
+        dispatch(root, downTime, downTime, MotionEvent.ACTION_DOWN, startX, startY);
+        dispatch(root, downTime, downTime + 10, MotionEvent.ACTION_MOVE, startX + dx, startY + dy);
+        dispatch(root, downTime, downTime + 20, MotionEvent.ACTION_MOVE, startX + 2 * dx, startY + 2 * dy);
+        dispatch(root, downTime, downTime + 30, MotionEvent.ACTION_UP, endX, endY);
+    }
+
+    private static void dispatch(View view, long downTime, long eventTime, int action, float x, float y) {
+        MotionEvent event = MotionEvent.obtain(downTime, eventTime, action, x, y, 0);
+        view.dispatchTouchEvent(event);
+        event.recycle();
+    }
+}
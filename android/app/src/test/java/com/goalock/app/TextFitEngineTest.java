@@ -0,0 +1,87 @@
+package com.goalock.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import android.content.Intent;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.android.controller.ServiceController;
+import org.robolectric.annotation.Config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 목표 텍스트를 잠금화면 페이지 크기에 맞추는 TextFitEngine 테스트
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class TextFitEngineTest {
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private Application application;
+    private ServiceController<LockScreenService> serviceController;
+    private LockScreenService.LockScreenBinder binder;
+
+    @Before
+    public void setUp() {
+        application = ApplicationProvider.getApplicationContext();
+        serviceController = Robolectric.buildService(LockScreenService.class).create();
+        binder = (LockScreenService.LockScreenBinder) serviceController.get().onBind(new Intent());
+        binder.setLaunchStrategy(LockScreenLauncher.Strategy.DIRECT_START.name());
+    }
+
+    @After
+    public void tearDown() {
+        serviceController.destroy();
+        LockScreenTestSupport.resetSingletons();
+    }
+
+    @Test
+    public void mixedDeadlines_pagingKeepsPagerHeightAndDoesNotRefitText() {
+        // 마감일이 있는 목표와 없는 목표를 번갈아 배치 (3개면 모든 목표가 처음부터 현재/이웃 페이지)
+        long deadline = System.currentTimeMillis() + 3 * DAY_MILLIS;
+        binder.updateLockScreenGoals("[{\"title\":\"마감 있는 목표\",\"deadline\":" + deadline + "},"
+                + "{\"title\":\"마감 없는 목표\",\"deadline\":null},"
+                + "{\"title\":\"다른 마감 있는 목표\",\"deadline\":" + deadline + "}]");
+
+        ActivityController<LockScreenActivity> controller = LockScreenTestSupport.showLockScreen(application);
+        LockScreenActivity activity = controller.get();
+        LockScreenTestSupport.idleFor(500);
+
+        GoalPagerView pager = LockScreenTestSupport.findPager(activity);
+        assertNotNull(pager);
+        int pagerHeight = pager.getHeight();
+        assertTrue(pagerHeight > 0);
+        int textFitsBefore = textFitCount();
+
+        for (int i = 0; i < 6; i++) {
+            LockScreenTestSupport.swipeLeft(activity);
+            LockScreenTestSupport.idleFor(500);
+            // 카운트다운이 보이거나 숨겨져도 페이저 높이는 그대로
+            assertEquals(pagerHeight, pager.getHeight());
+        }
+        // 높이가 바뀌지 않으므로 넘기는 동안 글자 크기를 다시 맞추지 않음
+        assertEquals(textFitsBefore, textFitCount());
+
+        LockScreenTestSupport.swipeUp(activity);
+        controller.pause().stop().destroy();
+    }
+
+    private static int textFitCount() {
+        Map<String, Object> stats = new HashMap<>();
+        TextFitEngine.getInstance().putStats(stats);
+        return ((Number) stats.get("textFitCount")).intValue();
+    }
+}
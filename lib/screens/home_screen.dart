@@ -47,6 +47,9 @@ class _HomeScreenState extends State<HomeScreen> {
     // 완료되지 않은 목표만 필터링
     final activeGoals = goals.where((goal) => !goal.isCompleted).toList();
 
+    // 잠금화면에서 넘겨 볼 목표 목록 갱신 (샘플 데이터는 반영하지 않음)
+    _lockScreenService.syncLockScreenGoals(activeGoals);
+
     setState(() {
       // 목표가 없으면 샘플 데이터 사용
       if (activeGoals.isEmpty) {
@@ -1,4 +1,5 @@
 import 'package:flutter/material.dart';
+import 'package:goalock/models/goal.dart';
 import 'package:goalock/services/lock_screen_service.dart';
 
 /// 앱의 이전 코드와의 호환성을 위한 래퍼 클래스
@@ -46,6 +47,18 @@ class CustomLockScreenService {
     }
   }
 
+  /// 잠금화면 표시로 설정된 목표들을 네이티브 잠금화면에 반영
+  Future<bool> syncLockScreenGoals(List<Goal> goals) async {
+    try {
+      final lockScreenGoals =
+          goals.where((goal) => goal.showOnLockScreen).toList();
+      return await LockScreenService.setLockScreenGoals(lockScreenGoals);
+    } catch (e) {
+      debugPrint('잠금화면 목표 목록 반영 오류: $e');
+      return false;
+    }
+  }
+
   /// 잠금화면 서비스 비활성화
   Future<bool> disableLockScreenService() async {
     try {
@@ -1,4 +1,5 @@
 import 'package:flutter/services.dart';
+import 'package:goalock/models/goal.dart';
 import 'package:shared_preferences/shared_preferences.dart';
 
 /// 안드로이드 네이티브 잠금화면 서비스를 제어하는 클래스
@@ -8,6 +9,13 @@ class LockScreenService {
   );
   static const String _prefsKeyServiceEnabled = 'lockScreenServiceEnabled';
 
+  /// 네이티브 로그 레벨 (android.util.Log 값과 동일)
+  static const int logLevelDebug = 3;
+  static const int logLevelInfo = 4;
+  static const int logLevelWarn = 5;
+  static const int logLevelError = 6;
+  static const int logLevelOff = 8;
+
   /// 잠금화면 서비스 시작
   static Future<bool> startService() async {
     try {
@@ -63,6 +71,25 @@ class LockScreenService {
     }
   }
 
+  /// 잠금화면에서 좌우로 넘겨 볼 목표 목록 설정 (비어 있으면 단일 목표 텍스트 사용)
+  static Future<bool> setLockScreenGoals(List<Goal> goals) async {
+    try {
+      final result = await _channel.invokeMethod('setLockScreenGoals', {
+        'goals': goals
+            .map((goal) => {
+                  'id': goal.id,
+                  'title': goal.title,
+                  'deadline': goal.deadline?.millisecondsSinceEpoch,
+                })
+            .toList(),
+      });
+      return result;
+    } on PlatformException catch (e) {
+      print('잠금화면 목표 목록 설정 실패: ${e.message}');
+      return false;
+    }
+  }
+
   /// 잠금화면 배경색 설정
   static Future<bool> setBackgroundColor(String hexColor) async {
     try {
@@ -89,6 +116,67 @@ class LockScreenService {
     }
   }
 
+  /// 잠금화면 서비스 통계 조회 (서비스가 실행 중이 아니면 null)
+  static Future<Map<String, dynamic>?> getStats() async {
+    try {
+      final result = await _channel.invokeMapMethod<String, dynamic>(
+        'getLockScreenStats',
+      );
+      return result;
+    } on PlatformException catch (e) {
+      print('잠금화면 통계 조회 실패: ${e.message}');
+      return null;
+    }
+  }
+
+  /// 잠금화면 즉시 표시
+  static Future<bool> showNow() async {
+    try {
+      final result = await _channel.invokeMethod('showLockScreenNow');
+      return result;
+    } on PlatformException catch (e) {
+      print('잠금화면 표시 실패: ${e.message}');
+      return false;
+    }
+  }
+
+  /// 네이티브 로그 버퍼 내용 (오래된 순서, 한 줄에 하나)
+  static Future<String?> dumpLogs() async {
+    try {
+      return await _channel.invokeMethod<String>('dumpLogs');
+    } on PlatformException catch (e) {
+      print('네이티브 로그 조회 실패: ${e.message}');
+      return null;
+    }
+  }
+
+  /// 네이티브 로그를 메모리에 기록할 최소 레벨 설정 (2=VERBOSE ~ 7=OFF, 범위 밖의 값은 가까운 값으로 맞춤)
+  static Future<bool> setLogLevel(int level) async {
+    try {
+      final result = await _channel.invokeMethod('setLogLevel', {
+        'level': level,
+      });
+      return result;
+    } on PlatformException catch (e) {
+      print('네이티브 로그 레벨 설정 실패: ${e.message}');
+      return false;
+    }
+  }
+
+  /// 잠금화면 실행 전략 고정
+  /// ('FULL_SCREEN_INTENT', 'DIRECT_START', 'OVERLAY' 중 하나, null이면 자동 선택)
+  static Future<bool> setLaunchStrategy(String? strategy) async {
+    try {
+      final result = await _channel.invokeMethod('setLaunchStrategy', {
+        'strategy': strategy,
+      });
+      return result;
+    } on PlatformException catch (e) {
+      print('잠금화면 실행 전략 설정 실패: ${e.message}');
+      return false;
+    }
+  }
+
   /// 필요한 권한이 있는지 확인
   static Future<bool> checkPermissions() async {
     try {